@@ -38,6 +38,8 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	String MAX_DURATION_NOT_SET = "";
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +94,20 @@ public @interface Property {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The maximum wall-clock time spent on generating and running tries.
+	 * When the duration is exceeded no further tries are started, but
+	 * {@link #tries()} stays the upper limit of tries.
+	 * Time spent for shrinking is not counted.
+	 * <p>
+	 * The duration is given as a number with unit, e.g. {@code "500ms"}, {@code "30s"}, {@code "2m"} or {@code "1h"},
+	 * or in ISO-8601 format, e.g. {@code "PT30S"}.
+	 * Default value is the value from the global {@code jqwik.maxduration.default}
+	 * configuration property, which is not set by default.
+	 *
+	 * @return the maximum duration of a property's tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	String maxDuration() default MAX_DURATION_NOT_SET;
 }
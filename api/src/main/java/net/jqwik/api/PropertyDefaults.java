@@ -33,6 +33,9 @@ public @interface PropertyDefaults {
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	String maxDuration() default Property.MAX_DURATION_NOT_SET;
+
 	class PropertyDefaultsHook implements AroundPropertyHook {
 
 		@Override
@@ -75,6 +78,12 @@ public @interface PropertyDefaults {
 					attributes.setWhenFixedSeed(mode);
 				}
 			});
+			findMaxDuration(propertyDefaults).ifPresent(maxDuration -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.maxDuration().isPresent()) {
+					attributes.setMaxDuration(maxDuration);
+				}
+			});
 
 			return property.execute();
 		}
@@ -121,6 +130,13 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<String> findMaxDuration(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::maxDuration)
+								   .filter(maxDuration -> !maxDuration.equals(Property.MAX_DURATION_NOT_SET))
+								   .findFirst();
+		}
+
 		@Override
 		public int aroundPropertyProximity() {
 			// Somewhat more distant than standard hooks, so that those may change the attributes
@@ -18,7 +18,21 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#TIMINGS} will report percentiles of the time spent in generation,
+	 * try execution, property method invocation and shrinking steps after the property has run.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	TIMINGS,
+
+	/**
+	 * {@link Reporting#FILTERS} will report how many of the values generated for each filter
+	 * have been accepted after the property has run.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	FILTERS;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
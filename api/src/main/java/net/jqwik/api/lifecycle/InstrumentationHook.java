@@ -0,0 +1,69 @@
+package net.jqwik.api.lifecycle;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Implement this hook to get timing measurements of the phases a property runs through.
+ *
+ * <p>
+ * Measurements are taken and handed to the hook only if a hook applies to a property,
+ * so there is no measurement overhead for other properties.
+ * Since tries and shrinking can be executed on several threads
+ * {@linkplain #measured(PropertyLifecycleContext, Phase, long, long)} must be thread safe.
+ * </p>
+ */
+@API(status = EXPERIMENTAL, since = "1.5.4")
+@FunctionalInterface
+public interface InstrumentationHook extends LifecycleHook {
+
+	enum Phase {
+		/**
+		 * Generation of the parameters for a single try
+		 */
+		GENERATION,
+
+		/**
+		 * Execution of a try including all {@linkplain AroundTryHook around try hooks}
+		 * and the invocation of the property method
+		 */
+		AROUND_TRY,
+
+		/**
+		 * Invocation of the property method alone
+		 */
+		METHOD_INVOCATION,
+
+		/**
+		 * Time from the start of shrinking or from the previous shrinking step
+		 * to the next successful shrinking step. Tries executed during shrinking are measured as well.
+		 */
+		SHRINKING_STEP
+	}
+
+	/**
+	 * Called after a phase has been executed.
+	 *
+	 * @param context        The property's context object
+	 * @param phase          the measured phase
+	 * @param nanos          the elapsed time in nanoseconds
+	 * @param allocatedBytes the number of bytes allocated by the measuring thread during the phase,
+	 *                       or {@code -1} if allocations are not measured or cannot be measured on this JVM
+	 */
+	void measured(PropertyLifecycleContext context, Phase phase, long nanos, long allocatedBytes);
+
+	/**
+	 * Override if allocated bytes per phase should also be measured.
+	 * This requires a JVM that supports thread allocation counting.
+	 *
+	 * @return true if allocations should be measured
+	 */
+	default boolean measureAllocations() {
+		return false;
+	}
+
+	@API(status = INTERNAL)
+	InstrumentationHook NONE = (context, phase, nanos, allocatedBytes) -> {};
+
+}
@@ -19,6 +19,7 @@ import static org.apiguardian.api.API.Status.*;
  * @see AroundPropertyHook
  * @see AroundTryHook
  * @see ResolveParameterHook
+ * @see InstrumentationHook
  * @see RegistrarHook
  */
 @API(status = MAINTAINED, since = "1.4.0")
@@ -107,6 +107,16 @@ public interface PropertyAttributes {
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The maximum duration of tries in the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#maxDuration()}
+	 * or {@linkplain #setMaxDuration(String)}.
+	 *
+	 * @return optional maximum duration as specified in {@linkplain Property#maxDuration()}
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	Optional<String> maxDuration();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +135,7 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.5.4")
+	void setMaxDuration(String maxDuration);
+
 }
@@ -35,6 +35,8 @@ public interface Store<T> {
 
 		public abstract <T> Store<T> create(Object identifier, Lifespan visibility, Supplier<T> initializer);
 
+		public abstract <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initializer);
+
 		public abstract <T> Store<T> get(Object identifier);
 
 		public abstract <T> Store<T> free(Supplier<T> initializer);
@@ -62,22 +64,10 @@ public interface Store<T> {
 	 * @param lifespan
 	 * @param initializer Supplies the value to be used for initializing the store depending on its lifespan
 	 * @return New or existing store instance
+	 * @throws JqwikException if an existing store has a different lifespan
 	 */
 	static <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initializer) {
-		try {
-			Store<T> store = Store.get(identifier);
-			if (!store.lifespan().equals(lifespan)) {
-				String message = String.format(
-					"Trying to recreate existing store [%s] with different lifespan [%s]",
-					store,
-					lifespan
-				);
-				throw new JqwikException(message);
-			}
-			return store;
-		} catch (CannotFindStoreException cannotFindStore) {
-			return Store.create(identifier, lifespan, initializer);
-		}
+		return StoreFacade.implementation.getOrCreate(identifier, lifespan, initializer);
 	}
 
 	/**
@@ -0,0 +1,46 @@
+package net.jqwik.benchmarks;
+
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+import static org.junit.platform.engine.TestDescriptor.Type.*;
+
+class BenchmarkSupport {
+
+	static final long SEED = 42L;
+	static final int GEN_SIZE = 1000;
+
+	// Generators and shrinking use stores, which need a current descriptor - like a property has
+	private static final TestDescriptor BENCHMARK_DESCRIPTOR = new AbstractTestDescriptor(
+		UniqueId.root("jqwik", "benchmarks"),
+		"Running benchmarks outside jqwik engine"
+	) {
+		@Override
+		public Type getType() {
+			return TEST;
+		}
+	};
+
+	private BenchmarkSupport() {
+	}
+
+	static <T> T inProperty(Supplier<T> code) {
+		return CurrentTestDescriptor.runWithDescriptor(BENCHMARK_DESCRIPTOR, code);
+	}
+
+	/**
+	 * Stores with lifespan TRY are reset afterwards, as they are after each try of a property
+	 */
+	static <T> T inTry(Supplier<T> code) {
+		TryScope tryScope = new TryScope();
+		try {
+			return inProperty(() -> TryScope.runIn(tryScope, code));
+		} finally {
+			tryScope.finish();
+		}
+	}
+}
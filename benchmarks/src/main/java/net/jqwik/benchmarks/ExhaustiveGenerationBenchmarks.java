@@ -0,0 +1,61 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Iteration over all values of exhaustive generators.
+ * Each operation iterates over all values of a generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExhaustiveGenerationBenchmarks {
+
+	private static final long MAX_NUMBER_OF_SAMPLES = 100_000L;
+
+	@Param({"integers", "combined", "integerLists", "strings"})
+	public String arbitrary;
+
+	private ExhaustiveGenerator<?> generator;
+
+	@Setup
+	public void setup() {
+		generator = createArbitrary(arbitrary)
+						.exhaustive(MAX_NUMBER_OF_SAMPLES)
+						.orElseThrow(() -> new IllegalStateException("No exhaustive generator for " + arbitrary));
+	}
+
+	@Benchmark
+	public void iterateAll(Blackhole blackhole) {
+		for (Object value : generator) {
+			blackhole.consume(value);
+		}
+	}
+
+	private static Arbitrary<?> createArbitrary(String name) {
+		switch (name) {
+			case "integers":
+				return Arbitraries.integers().between(0, 50_000);
+			case "combined":
+				return Combinators.combine(
+					Arbitraries.integers().between(0, 99),
+					Arbitraries.integers().between(0, 99),
+					Arbitraries.of(true, false)
+				).as((first, second, flag) -> flag ? first + second : first - second);
+			case "integerLists":
+				return Arbitraries.integers().between(0, 9).list().ofMaxSize(4);
+			case "strings":
+				return Arbitraries.strings().withCharRange('a', 'j').ofMaxLength(4);
+			default:
+				throw new IllegalArgumentException("Unknown arbitrary: " + name);
+		}
+	}
+}
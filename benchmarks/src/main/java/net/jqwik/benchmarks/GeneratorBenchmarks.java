@@ -0,0 +1,78 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Throughput of {@linkplain Arbitrary#generator(int)} for built-in arbitraries.
+ * Each operation generates one shrinkable and requests its value
+ * within a fresh try scope, just like a try of a property does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmarks {
+
+	@Param({
+		"integers", "longs", "doubles", "bigDecimals", "chars", "strings",
+		"integerLists", "stringSets", "maps", "combined", "frequencyOf", "filtered"
+	})
+	public String arbitrary;
+
+	private RandomGenerator<?> generator;
+	private Random random;
+
+	@Setup
+	public void setup() {
+		generator = BenchmarkSupport.inProperty(() -> createArbitrary(arbitrary).generator(BenchmarkSupport.GEN_SIZE));
+		random = new Random(BenchmarkSupport.SEED);
+	}
+
+	@Benchmark
+	public Object generate() {
+		return BenchmarkSupport.inTry(() -> generator.next(random).value());
+	}
+
+	private static Arbitrary<?> createArbitrary(String name) {
+		switch (name) {
+			case "integers":
+				return Arbitraries.integers();
+			case "longs":
+				return Arbitraries.longs();
+			case "doubles":
+				return Arbitraries.doubles().between(-1000.0, 1000.0);
+			case "bigDecimals":
+				return Arbitraries.bigDecimals();
+			case "chars":
+				return Arbitraries.chars();
+			case "strings":
+				return Arbitraries.strings().alpha().ofMaxLength(50);
+			case "integerLists":
+				return Arbitraries.integers().list().ofMaxSize(50);
+			case "stringSets":
+				return Arbitraries.strings().alpha().ofLength(5).set().ofMaxSize(20);
+			case "maps":
+				return Arbitraries.maps(Arbitraries.integers(), Arbitraries.strings().ofMaxLength(10)).ofMaxSize(20);
+			case "combined":
+				return Combinators.combine(Arbitraries.integers(), Arbitraries.strings().ofMaxLength(10))
+								  .as((anInt, aString) -> aString + anInt);
+			case "frequencyOf":
+				return Arbitraries.frequencyOf(
+					Tuple.of(1, Arbitraries.integers().between(0, 10)),
+					Tuple.of(5, Arbitraries.integers().between(100, 1000)),
+					Tuple.of(10, Arbitraries.just(-1))
+				);
+			case "filtered":
+				return Arbitraries.integers().filter(anInt -> anInt % 3 == 0);
+			default:
+				throw new IllegalArgumentException("Unknown arbitrary: " + name);
+		}
+	}
+}
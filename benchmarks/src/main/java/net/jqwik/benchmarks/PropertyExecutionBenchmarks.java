@@ -0,0 +1,112 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.discovery.*;
+import org.junit.platform.launcher.*;
+import org.junit.platform.launcher.core.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Per-try overhead of running a property that always succeeds through {@linkplain JqwikTestEngine}.
+ * Generation is as cheap as possible so that the engine's own work dominates.
+ * Generation is forced to be randomized, since a single-value arbitrary would otherwise be checked exhaustively in a single try.
+ * Discovery of the property is part of each operation but is spread over all tries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyExecutionBenchmarks {
+
+	private static final int TRIES = 1000;
+
+	@Param({"1", "3"})
+	public int numberOfParameters;
+
+	private Path databaseDirectory;
+	private LauncherDiscoveryRequest request;
+
+	@Setup
+	public void setup() throws IOException {
+		databaseDirectory = Files.createTempDirectory("jqwik-benchmarks");
+		Class<?> propertyContainer = numberOfParameters == 1 ? OneParameter.class : ThreeParameters.class;
+		request = LauncherDiscoveryRequestBuilder
+					  .request()
+					  .selectors(DiscoverySelectors.selectClass(propertyContainer))
+					  .configurationParameter("jqwik.database", databaseDirectory.resolve(".jqwik-database").toString())
+					  .configurationParameter("jqwik.reporting.usejunitplatform", "true")
+					  .build();
+	}
+
+	@TearDown
+	public void deleteDatabase() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(databaseDirectory)) {
+			for (Path file : files) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(databaseDirectory);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIES)
+	public void checkSucceedingProperty() {
+		JqwikTestEngine engine = new JqwikTestEngine();
+		TestDescriptor root = engine.discover(request, UniqueId.forEngine(JqwikTestEngine.ENGINE_ID));
+		engine.execute(new ExecutionRequest(root, new FailingPropertiesListener(), request.getConfigurationParameters()));
+	}
+
+	public static class OneParameter {
+
+		@Property(tries = TRIES, seed = "42", generation = GenerationMode.RANDOMIZED, shrinking = ShrinkingMode.OFF, edgeCases = EdgeCasesMode.NONE)
+		public boolean alwaysTrue(@ForAll("constant") int first) {
+			return true;
+		}
+
+		@Provide
+		Arbitrary<Integer> constant() {
+			return Arbitraries.just(1);
+		}
+	}
+
+	public static class ThreeParameters {
+
+		@Property(tries = TRIES, seed = "42", generation = GenerationMode.RANDOMIZED, shrinking = ShrinkingMode.OFF, edgeCases = EdgeCasesMode.NONE)
+		public boolean alwaysTrue(
+			@ForAll("constant") int first,
+			@ForAll("constant") int second,
+			@ForAll("constant") int third
+		) {
+			return true;
+		}
+
+		@Provide
+		Arbitrary<Integer> constant() {
+			return Arbitraries.just(1);
+		}
+	}
+
+	/**
+	 * A failing property would not measure what it is supposed to measure
+	 */
+	private static class FailingPropertiesListener implements EngineExecutionListener {
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult result) {
+			if (result.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+				String message = String.format("Benchmark property [%s] did not succeed: %s", testDescriptor.getDisplayName(), result);
+				throw new IllegalStateException(message);
+			}
+		}
+	}
+}
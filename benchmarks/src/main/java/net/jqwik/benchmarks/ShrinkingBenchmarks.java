@@ -0,0 +1,109 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Full shrinking of typical failures with {@linkplain PropertyShrinker}.
+ * The falsified sample is generated once per trial from a fixed seed so that
+ * each invocation shrinks the same sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ShrinkingBenchmarks {
+
+	@Param({"integerListSum", "stringContainsChar", "integerPair"})
+	public String failure;
+
+	private FalsifiedSample originalSample;
+	private Falsifier<List<Object>> falsifier;
+
+	@Setup
+	public void setup() {
+		switch (failure) {
+			case "integerListSum":
+				prepare(
+					Collections.singletonList(Arbitraries.integers().between(0, 1000).list().ofMaxSize(100)),
+					params -> sum(params.get(0)) < 1000
+				);
+				break;
+			case "stringContainsChar":
+				prepare(
+					Collections.singletonList(Arbitraries.strings().alpha().ofMinLength(10).ofMaxLength(200)),
+					params -> ((String) params.get(0)).indexOf('x') < 0
+				);
+				break;
+			case "integerPair":
+				prepare(
+					Arrays.asList(Arbitraries.integers(), Arbitraries.integers()),
+					params -> (Integer) params.get(0) < 1000 || (Integer) params.get(1) > -1000
+				);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown failure: " + failure);
+		}
+	}
+
+	@Benchmark
+	public FalsifiedSample shrink() {
+		PropertyShrinker shrinker = new PropertyShrinker(
+			originalSample,
+			ShrinkingMode.FULL,
+			10,
+			ignore -> {},
+			null
+		);
+		return BenchmarkSupport.inProperty(() -> shrinker.shrink(falsifier));
+	}
+
+	private void prepare(List<Arbitrary<?>> arbitraries, CheckedPredicate property) {
+		falsifier = params -> property.test(params) ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+
+		Random random = new Random(BenchmarkSupport.SEED);
+		List<RandomGenerator<?>> generators = new ArrayList<>();
+		for (Arbitrary<?> arbitrary : arbitraries) {
+			generators.add(BenchmarkSupport.inProperty(() -> arbitrary.generator(BenchmarkSupport.GEN_SIZE)));
+		}
+		while (originalSample == null) {
+			originalSample = BenchmarkSupport.inTry(() -> falsifiedSampleOrNull(generators, random, property));
+		}
+	}
+
+	private static FalsifiedSample falsifiedSampleOrNull(List<RandomGenerator<?>> generators, Random random, CheckedPredicate property) {
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>();
+		List<Object> parameters = new ArrayList<>();
+		for (RandomGenerator<?> generator : generators) {
+			@SuppressWarnings("unchecked")
+			Shrinkable<Object> shrinkable = (Shrinkable<Object>) generator.next(random);
+			shrinkables.add(shrinkable);
+			parameters.add(shrinkable.value());
+		}
+		if (property.test(parameters)) {
+			return null;
+		}
+		return new FalsifiedSampleImpl(parameters, shrinkables, Optional.empty());
+	}
+
+	private static int sum(Object integerList) {
+		int sum = 0;
+		for (Object anInt : (List<?>) integerList) {
+			sum += (Integer) anInt;
+		}
+		return sum;
+	}
+
+	private interface CheckedPredicate {
+		boolean test(List<Object> params);
+	}
+}
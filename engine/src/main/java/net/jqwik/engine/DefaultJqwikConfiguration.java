@@ -7,6 +7,8 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
@@ -34,7 +36,13 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.fixedSeedMode(),
+			properties.triesParallelism(),
+			properties.shrinkingParallelism(),
+			properties.defaultMaxDuration(),
+			properties.exhaustiveSliceSize(),
+			properties.filterNarrowing(),
+			properties.randomAlgorithm()
 		);
 	}
 
@@ -56,6 +64,20 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
+	@Override
+	public ReportingLimits reportingLimits() {
+		return new ReportingLimits(
+			properties.reportingMaxDepth(),
+			properties.reportingMaxWidth(),
+			properties.reportingMaxSize()
+		);
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -81,12 +103,20 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			public Set<UniqueId> previousFailures() {
 				return Collections.emptySet();
 			}
+
+			@Override
+			public DiscoveryIndex discoveryIndex() {
+				return DiscoveryIndex.disabled();
+			}
 		};
 	}
 
 	private TestEngineConfiguration testEngineConfigurationFromDatabase(String databasePath) {
 		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath));
 		TestRunData previousRun = database.previousRun();
+		DiscoveryIndex discoveryIndex = properties.discoveryIndex()
+											? new DiscoveryIndex(DiscoveryIndex.indexPathFor(Paths.get(databasePath)))
+											: DiscoveryIndex.disabled();
 		return new TestEngineConfiguration() {
 			@Override
 			public TestRunRecorder recorder() {
@@ -104,6 +134,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 					return Collections.emptySet();
 				return previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(Collectors.toSet());
 			}
+
+			@Override
+			public DiscoveryIndex discoveryIndex() {
+				return discoveryIndex;
+			}
 		};
 	}
 }
@@ -1,5 +1,7 @@
 package net.jqwik.engine;
 
+import net.jqwik.engine.execution.reporting.*;
+
 public interface JqwikConfiguration {
 	PropertyAttributesDefaults propertyDefaultValues();
 
@@ -8,4 +10,8 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	int executionParallelism();
+
+	ReportingLimits reportingLimits();
 }
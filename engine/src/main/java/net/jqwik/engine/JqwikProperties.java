@@ -9,6 +9,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.reporting.*;
 
 public class JqwikProperties {
 
@@ -38,6 +39,7 @@ public class JqwikProperties {
 
 	private static final String DEFAULT_DATABASE_PATH = ".jqwik-database";
 	private static final boolean DEFAULT_RERUN_FAILURES_FIRST = false;
+	private static final boolean DEFAULT_DISCOVERY_INDEX = true;
 	private static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	private static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	private static final boolean DEFAULT_REPORT_ONLY_FAILURES = false;
@@ -45,6 +47,16 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	private static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	private static final String DEFAULT_MAX_DURATION = Property.MAX_DURATION_NOT_SET;
+	private static final long DEFAULT_EXHAUSTIVE_SLICE_SIZE = 0;
+	private static final int DEFAULT_REPORTING_MAX_DEPTH = ReportingLimits.DEFAULT_MAX_DEPTH;
+	private static final int DEFAULT_REPORTING_MAX_WIDTH = ReportingLimits.DEFAULT_MAX_WIDTH;
+	private static final int DEFAULT_REPORTING_MAX_SIZE = ReportingLimits.DEFAULT_MAX_SIZE;
+	private static final RandomAlgorithm DEFAULT_RANDOM_ALGORITHM = RandomAlgorithm.XORSHIFT;
+	private static final boolean DEFAULT_FILTER_NARROWING = false;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -52,6 +64,7 @@ public class JqwikProperties {
 
 	private final String databasePath;
 	private final boolean runFailuresFirst;
+	private final boolean discoveryIndex;
 	private final int defaultTries;
 	private final int defaultMaxDiscardRatio;
 	private final boolean useJunitPlatformReporter;
@@ -62,6 +75,16 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final int triesParallelism;
+	private final int executionParallelism;
+	private final int shrinkingParallelism;
+	private final String defaultMaxDuration;
+	private final long exhaustiveSliceSize;
+	private final int reportingMaxDepth;
+	private final int reportingMaxWidth;
+	private final int reportingMaxSize;
+	private final RandomAlgorithm randomAlgorithm;
+	private final boolean filterNarrowing;
 
 	public String databasePath() {
 		return databasePath;
@@ -71,6 +94,10 @@ public class JqwikProperties {
 		return runFailuresFirst;
 	}
 
+	public boolean discoveryIndex() {
+		return discoveryIndex;
+	}
+
 	public int defaultTries() {
 		return defaultTries;
 	}
@@ -111,9 +138,50 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public int triesParallelism() {
+		return triesParallelism;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public int shrinkingParallelism() {
+		return shrinkingParallelism;
+	}
+
+	public String defaultMaxDuration() {
+		return defaultMaxDuration;
+	}
+
+	public long exhaustiveSliceSize() {
+		return exhaustiveSliceSize;
+	}
+
+	public int reportingMaxDepth() {
+		return reportingMaxDepth;
+	}
+
+	public int reportingMaxWidth() {
+		return reportingMaxWidth;
+	}
+
+	public int reportingMaxSize() {
+		return reportingMaxSize;
+	}
+
+	public RandomAlgorithm randomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	public boolean filterNarrowing() {
+		return filterNarrowing;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
+		discoveryIndex = parameters.getBoolean("discovery.index").orElse(DEFAULT_DISCOVERY_INDEX);
 		defaultTries = parameters.get("tries.default", Integer::parseInt).orElse(DEFAULT_TRIES);
 		defaultMaxDiscardRatio = parameters.get("maxdiscardratio.default", Integer::parseInt).orElse(DEFAULT_MAX_DISCARD_RATIO);
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
@@ -124,6 +192,31 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		triesParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		shrinkingParallelism = parameters.get("shrinking.parallelism", Integer::parseInt).orElse(DEFAULT_SHRINKING_PARALLELISM);
+		defaultMaxDuration = parameters.get("maxduration.default").map(String::trim).orElse(DEFAULT_MAX_DURATION);
+		exhaustiveSliceSize = parameters.get("exhaustive.slicesize", Long::parseLong).orElse(DEFAULT_EXHAUSTIVE_SLICE_SIZE);
+		reportingMaxDepth = parameters.get("reporting.maxdepth", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_DEPTH);
+		reportingMaxWidth = parameters.get("reporting.maxwidth", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_WIDTH);
+		reportingMaxSize = parameters.get("reporting.maxsize", Integer::parseInt).orElse(DEFAULT_REPORTING_MAX_SIZE);
+		randomAlgorithm = parameters.get("random.algorithm").map(JqwikProperties::parseRandomAlgorithm).orElse(DEFAULT_RANDOM_ALGORITHM);
+		filterNarrowing = parameters.getBoolean("filters.narrowing").orElse(DEFAULT_FILTER_NARROWING);
+	}
+
+	private static RandomAlgorithm parseRandomAlgorithm(String name) {
+		String normalizedName = name.trim().toUpperCase(Locale.ROOT);
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values()) {
+			if (algorithm.name().equals(normalizedName)) {
+				return algorithm;
+			}
+		}
+		String message = String.format(
+			"[%s] is not a valid value for jqwik.random.algorithm. Allowed values are %s.",
+			name,
+			Arrays.toString(RandomAlgorithm.values())
+		);
+		throw new JqwikException(message);
 	}
 
 	static JqwikProperties loadWithBackwardsCompatibility(ConfigurationParameters fromJunit) {
@@ -0,0 +1,20 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+/**
+ * Base class of all sources of randomness that jqwik creates.
+ * Implementations need not be thread safe.
+ *
+ * @see RandomAlgorithm
+ */
+public abstract class JqwikRandom extends Random {
+
+	/**
+	 * Create a new random whose values are statistically independent of this one's.
+	 * Splitting is deterministic: Splitting two randoms in the same state creates two randoms in the same state.
+	 */
+	public abstract JqwikRandom split();
+
+	abstract RandomAlgorithm algorithm();
+}
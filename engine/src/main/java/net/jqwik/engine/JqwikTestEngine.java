@@ -37,8 +37,12 @@ public class JqwikTestEngine implements TestEngine {
 	public TestDescriptor discover(EngineDiscoveryRequest request, UniqueId uniqueId) {
 		JqwikConfiguration configuration = buildConfiguration(request.getConfigurationParameters());
 		TestDescriptor engineDescriptor = new JqwikEngineDescriptor(uniqueId, configuration);
-		new JqwikDiscoverer(configuration.testEngineConfiguration().previousRun(), configuration.propertyDefaultValues())
-			.discover(request, engineDescriptor);
+		TestEngineConfiguration testEngineConfiguration = configuration.testEngineConfiguration();
+		new JqwikDiscoverer(
+			testEngineConfiguration.previousRun(),
+			configuration.propertyDefaultValues(),
+			testEngineConfiguration.discoveryIndex()
+		).discover(request, engineDescriptor);
 
 		return engineDescriptor;
 	}
@@ -66,7 +70,8 @@ public class JqwikTestEngine implements TestEngine {
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism()
 			).execute(root, listener);
 		}
 	}
@@ -16,9 +16,27 @@ public interface PropertyAttributesDefaults {
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
 
+	// Property.MAX_DURATION_NOT_SET if there is no time limit
+	String maxDuration();
+
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	int triesParallelism();
+
+	// This is currently a global parameter
+	int shrinkingParallelism();
+
+	// This is currently a global parameter. 0 means that exhaustive generation is not sliced.
+	long exhaustiveSliceSize();
+
+	// This is currently a global parameter
+	boolean filterNarrowing();
+
+	// This is currently a global parameter
+	RandomAlgorithm randomAlgorithm();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +45,13 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		int triesParallelism,
+		int shrinkingParallelism,
+		String maxDuration,
+		long exhaustiveSliceSize,
+		boolean filterNarrowing,
+		RandomAlgorithm randomAlgorithm
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +98,36 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int triesParallelism() {
+				return triesParallelism;
+			}
+
+			@Override
+			public int shrinkingParallelism() {
+				return shrinkingParallelism;
+			}
+
+			@Override
+			public String maxDuration() {
+				return maxDuration;
+			}
+
+			@Override
+			public long exhaustiveSliceSize() {
+				return exhaustiveSliceSize;
+			}
+
+			@Override
+			public boolean filterNarrowing() {
+				return filterNarrowing;
+			}
+
+			@Override
+			public RandomAlgorithm randomAlgorithm() {
+				return randomAlgorithm;
+			}
 		};
 	}
 }
@@ -0,0 +1,29 @@
+package net.jqwik.engine;
+
+/**
+ * The algorithms that can be chosen through configuration parameter {@code jqwik.random.algorithm}.
+ */
+public enum RandomAlgorithm {
+
+	/**
+	 * Fast xorshift algorithm. A seed generates the same values as in former versions of jqwik.
+	 */
+	XORSHIFT {
+		@Override
+		JqwikRandom create(long seed) {
+			return new XORShiftRandom(seed);
+		}
+	},
+
+	/**
+	 * The algorithm of {@linkplain java.util.SplittableRandom} with better statistical quality of split randoms.
+	 */
+	SPLITMIX {
+		@Override
+		JqwikRandom create(long seed) {
+			return new SplitMixRandom(seed);
+		}
+	};
+
+	abstract JqwikRandom create(long seed);
+}
@@ -13,79 +13,84 @@ public class SourceOfRandomness {
 
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 
-	private static final ThreadLocal<Random> current = ThreadLocal.withInitial(SourceOfRandomness::newRandom);
+	// Used for threads that have no current random yet
+	private static final RandomAlgorithm DEFAULT_ALGORITHM = RandomAlgorithm.XORSHIFT;
+
+	private static final ThreadLocal<JqwikRandom> current =
+		ThreadLocal.withInitial(() -> DEFAULT_ALGORITHM.create(System.nanoTime()));
 
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
-	public static Random create(String seed) {
-		try {
-			Random random = newRandom(Long.parseLong(seed));
-			current.set(random);
-			return random;
-		} catch (NumberFormatException nfe) {
-			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
-		}
+	/**
+	 * Create a random with the same algorithm as the current random and make it the current random.
+	 */
+	public static JqwikRandom create(String seed) {
+		return create(seed, currentAlgorithm());
 	}
 
-	public static Random newRandom() {
-		return new XORShiftRandom();
+	/**
+	 * Create a random and make it the current random.
+	 * Randoms that are created with {@linkplain #newRandom(long)} afterwards use the same algorithm.
+	 */
+	public static JqwikRandom create(String seed, RandomAlgorithm algorithm) {
+		JqwikRandom random = algorithm.create(parseSeed(seed));
+		current.set(random);
+		return random;
 	}
 
-	public static Random newRandom(final long seed) {
-		return new XORShiftRandom(seed);
+	/**
+	 * A random for tries that run concurrently to the generation of samples with the random created by {@linkplain #create(String)}.
+	 * It is independent of that random but derived from the same seed, so that each try can get a reproducible random through
+	 * {@linkplain JqwikRandom#split()} in the order of generation - no matter which thread the try is executed on.
+	 * Without a seed the random for tries is not reproducible.
+	 */
+	public static JqwikRandom forTries(String seed, RandomAlgorithm algorithm) {
+		if (seed == null) {
+			return algorithm.create(System.nanoTime()).split();
+		}
+		return algorithm.create(parseSeed(seed)).split();
 	}
 
-	public static Random current() {
-		return current.get();
+	public static JqwikRandom forTries(String seed) {
+		return forTries(seed, currentAlgorithm());
 	}
 
-	/**
-	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
-	 * It also has a period of 2^n - 1 and better statistical randomness.
-	 *
-	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
-	 *
-	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
-	 */
-	private static class XORShiftRandom extends Random {
-		private long seed;
+	private static RandomAlgorithm currentAlgorithm() {
+		return current().algorithm();
+	}
 
-		private XORShiftRandom() {
-			this(System.nanoTime());
+	private static long parseSeed(String seed) {
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException nfe) {
+			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
 		}
+	}
 
-		private XORShiftRandom(long seed) {
-			if (seed == 0l) {
-				throw new IllegalArgumentException("0L is not an allowed seed value");
-			}
-			this.seed = seed;
-		}
+	public static JqwikRandom newRandom() {
+		return newRandom(System.nanoTime());
+	}
 
-		@Override
-		protected int next(int nbits) {
-			long x = nextLong();
-			x &= ((1L << nbits) - 1);
-			return (int) x;
-		}
+	/**
+	 * Uses the algorithm of the current random, i.e. the one configured for the property being executed.
+	 */
+	public static JqwikRandom newRandom(final long seed) {
+		return currentAlgorithm().create(seed);
+	}
 
-		/**
-		 * Will never generate 0L
-		 */
-		@Override
-		public long nextLong() {
-			long x = this.seed;
-			x ^= (x << 21);
-			x ^= (x >>> 35);
-			x ^= (x << 4);
-			this.seed = x;
-			return x;
+	public static JqwikRandom current() {
+		return current.get();
+	}
+
+	public static <T> T runWithCurrent(JqwikRandom random, Supplier<T> code) {
+		JqwikRandom previous = current.get();
+		current.set(random);
+		try {
+			return code.get();
+		} finally {
+			current.set(previous);
 		}
 	}
 }
@@ -0,0 +1,57 @@
+package net.jqwik.engine;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Not thread safe implementation of the algorithm of {@linkplain java.util.SplittableRandom}.
+ * Unlike {@linkplain java.util.SplittableRandom} it can be used wherever {@linkplain java.util.Random} is expected.
+ */
+class SplitMixRandom extends JqwikRandom {
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private long seed;
+	private final long gamma;
+
+	SplitMixRandom(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	private SplitMixRandom(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	@Override
+	protected int next(int nbits) {
+		return (int) (nextLong() >>> (64 - nbits));
+	}
+
+	@Override
+	public long nextLong() {
+		return MathSupport.mix64(nextSeed());
+	}
+
+	@Override
+	public JqwikRandom split() {
+		return new SplitMixRandom(nextLong(), mixGamma(nextSeed()));
+	}
+
+	@Override
+	RandomAlgorithm algorithm() {
+		return RandomAlgorithm.SPLITMIX;
+	}
+
+	// Gammas must be odd and should have enough bit transitions
+	private static long mixGamma(long value) {
+		value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+		value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		value = (value ^ (value >>> 33)) | 1L;
+		int transitions = Long.bitCount(value ^ (value >>> 1));
+		return (transitions < 24) ? value ^ 0xAAAAAAAAAAAAAAAAL : value;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.recording.*;
 
 public interface TestEngineConfiguration {
@@ -12,4 +13,6 @@ public interface TestEngineConfiguration {
 	TestRunData previousRun();
 
 	Set<UniqueId> previousFailures();
+
+	DiscoveryIndex discoveryIndex();
 }
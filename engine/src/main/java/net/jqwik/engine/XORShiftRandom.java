@@ -0,0 +1,61 @@
+package net.jqwik.engine;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * A faster but not thread safe implementation of {@linkplain java.util.Random}.
+ * It also has a period of 2^n - 1 and better statistical randomness.
+ *
+ * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
+ *
+ * <p>
+ * For further performance improvements within jqwik, consider to override:
+ * <ul>
+ *     <li>nextDouble()</li>
+ *     <li>nextBytes(int)</li>
+ * </ul>
+ */
+class XORShiftRandom extends JqwikRandom {
+	private long seed;
+
+	XORShiftRandom(long seed) {
+		if (seed == 0l) {
+			throw new IllegalArgumentException("0L is not an allowed seed value");
+		}
+		this.seed = seed;
+	}
+
+	@Override
+	protected int next(int nbits) {
+		long x = nextLong();
+		x &= ((1L << nbits) - 1);
+		return (int) x;
+	}
+
+	/**
+	 * Will never generate 0L
+	 */
+	@Override
+	public long nextLong() {
+		long x = this.seed;
+		x ^= (x << 21);
+		x ^= (x >>> 35);
+		x ^= (x << 4);
+		this.seed = x;
+		return x;
+	}
+
+	/**
+	 * Mixing scatters consecutive values of this random so that the split random does not follow its sequence.
+	 * The mix of a value other than 0L is never 0L.
+	 */
+	@Override
+	public JqwikRandom split() {
+		return new XORShiftRandom(MathSupport.mix64(nextLong()));
+	}
+
+	@Override
+	RandomAlgorithm algorithm() {
+		return RandomAlgorithm.XORSHIFT;
+	}
+}
@@ -1,10 +1,12 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.support.*;
 
 public class PropertyConfiguration {
 
@@ -32,6 +34,11 @@ public class PropertyConfiguration {
 	private final String overriddenSeed;
 	private final Integer overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
+	private final List<List<Object>> regressionSamples;
+	private final long exhaustiveStartPosition;
+
+	// Parsed on first access so that an invalid duration is only reported when the property is executed
+	private volatile Optional<Duration> maxDuration = null;
 
 	public PropertyConfiguration(
 		PropertyAttributes propertyAttributes,
@@ -41,6 +48,30 @@ public class PropertyConfiguration {
 		String overriddenSeed,
 		Integer overriddenTries,
 		GenerationMode overriddenGenerationMode
+	) {
+		this(
+			propertyAttributes,
+			propertyAttributesDefaults,
+			previousSeed,
+			falsifiedSample,
+			overriddenSeed,
+			overriddenTries,
+			overriddenGenerationMode,
+			Collections.emptyList(),
+			0
+		);
+	}
+
+	private PropertyConfiguration(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		String overriddenSeed,
+		Integer overriddenTries,
+		GenerationMode overriddenGenerationMode,
+		List<List<Object>> regressionSamples,
+		long exhaustiveStartPosition
 	) {
 		this.propertyAttributes = propertyAttributes;
 		this.propertyAttributesDefaults = propertyAttributesDefaults;
@@ -49,6 +80,8 @@ public class PropertyConfiguration {
 		this.falsifiedSample = falsifiedSample;
 		this.overriddenTries = overriddenTries;
 		this.overriddenGenerationMode = overriddenGenerationMode;
+		this.regressionSamples = regressionSamples;
+		this.exhaustiveStartPosition = exhaustiveStartPosition;
 	}
 
 	public PropertyConfiguration withSeed(String changedSeed) {
@@ -59,7 +92,9 @@ public class PropertyConfiguration {
 			this.falsifiedSample,
 			changedSeed,
 			this.overriddenTries,
-			this.overriddenGenerationMode
+			this.overriddenGenerationMode,
+			this.regressionSamples,
+			this.exhaustiveStartPosition
 		);
 	}
 
@@ -71,7 +106,9 @@ public class PropertyConfiguration {
 			this.falsifiedSample,
 			this.overriddenSeed,
 			this.overriddenTries,
-			changedGenerationMode
+			changedGenerationMode,
+			this.regressionSamples,
+			this.exhaustiveStartPosition
 		);
 	}
 
@@ -83,7 +120,37 @@ public class PropertyConfiguration {
 			this.falsifiedSample,
 			this.overriddenSeed,
 			changedTries,
-			this.overriddenGenerationMode
+			this.overriddenGenerationMode,
+			this.regressionSamples,
+			this.exhaustiveStartPosition
+		);
+	}
+
+	public PropertyConfiguration withRegressionSamples(List<List<Object>> changedRegressionSamples) {
+		return new PropertyConfiguration(
+			this.propertyAttributes,
+			this.propertyAttributesDefaults,
+			this.previousSeed,
+			this.falsifiedSample,
+			this.overriddenSeed,
+			this.overriddenTries,
+			this.overriddenGenerationMode,
+			changedRegressionSamples,
+			this.exhaustiveStartPosition
+		);
+	}
+
+	public PropertyConfiguration withExhaustiveStartPosition(long changedExhaustiveStartPosition) {
+		return new PropertyConfiguration(
+			this.propertyAttributes,
+			this.propertyAttributesDefaults,
+			this.previousSeed,
+			this.falsifiedSample,
+			this.overriddenSeed,
+			this.overriddenTries,
+			this.overriddenGenerationMode,
+			this.regressionSamples,
+			changedExhaustiveStartPosition
 		);
 	}
 
@@ -120,6 +187,20 @@ public class PropertyConfiguration {
 		return falsifiedSample;
 	}
 
+	/**
+	 * Falsified samples of previous runs that are tried before any random generation
+	 */
+	public List<List<Object>> getRegressionSamples() {
+		return regressionSamples;
+	}
+
+	/**
+	 * The position in the space of exhaustively generated samples at which a previous run stopped
+	 */
+	public long getExhaustiveStartPosition() {
+		return exhaustiveStartPosition;
+	}
+
 	public String getStereotype() {
 		return propertyAttributes.stereotype().orElse(propertyAttributesDefaults.stereotype());
 	}
@@ -145,6 +226,49 @@ public class PropertyConfiguration {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
 
+	// This is currently a global value and not property specific
+	public int triesParallelism() {
+		return propertyAttributesDefaults.triesParallelism();
+	}
+
+	// This is currently a global value and not property specific
+	public int shrinkingParallelism() {
+		return propertyAttributesDefaults.shrinkingParallelism();
+	}
+
+	// This is currently a global value and not property specific
+	public long exhaustiveSliceSize() {
+		return propertyAttributesDefaults.exhaustiveSliceSize();
+	}
+
+	// This is currently a global value and not property specific
+	public boolean filterNarrowing() {
+		return propertyAttributesDefaults.filterNarrowing();
+	}
+
+	// This is currently a global value and not property specific
+	public RandomAlgorithm randomAlgorithm() {
+		return propertyAttributesDefaults.randomAlgorithm();
+	}
+
+	/**
+	 * The wall-clock time after which no further tries are started
+	 */
+	public Optional<Duration> getMaxDuration() {
+		if (maxDuration == null) {
+			maxDuration = parseMaxDuration();
+		}
+		return maxDuration;
+	}
+
+	private Optional<Duration> parseMaxDuration() {
+		String maxDurationString = propertyAttributes.maxDuration().orElse(propertyAttributesDefaults.maxDuration());
+		if (maxDurationString.equals(Property.MAX_DURATION_NOT_SET)) {
+			return Optional.empty();
+		}
+		return Optional.of(JqwikDurationSupport.parseDuration(maxDurationString));
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
@@ -0,0 +1,72 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Fingerprints classpath roots by the relative paths, sizes and modification times of their class files.
+ * Reading file attributes is much cheaper than loading and reflecting over all classes of a root.
+ */
+class ClasspathFingerprint {
+
+	private ClasspathFingerprint() {
+	}
+
+	/**
+	 * Since a container's properties can be inherited from a class in another root,
+	 * the fingerprint covers all roots together.
+	 *
+	 * @return {@linkplain Optional#empty()} if any root cannot be read as a local directory or archive
+	 */
+	static Optional<Long> of(Collection<URI> roots) {
+		long fingerprint = roots.size();
+		for (URI root : roots) {
+			Optional<Long> rootFingerprint = ofRoot(root);
+			if (!rootFingerprint.isPresent()) {
+				return Optional.empty();
+			}
+			fingerprint = MathSupport.mix64(fingerprint * 31 + rootFingerprint.get());
+		}
+		return Optional.of(fingerprint);
+	}
+
+	private static Optional<Long> ofRoot(URI root) {
+		try {
+			Path rootPath = Paths.get(root);
+			BasicFileAttributes attributes = Files.readAttributes(rootPath, BasicFileAttributes.class);
+			if (attributes.isRegularFile()) {
+				return Optional.of(ofFile(rootPath.toString(), attributes));
+			}
+			return Optional.of(ofDirectory(rootPath));
+		} catch (IOException | RuntimeException cannotRead) {
+			return Optional.empty();
+		}
+	}
+
+	private static long ofDirectory(Path rootPath) throws IOException {
+		long[] fingerprint = {0L};
+		Files.walkFileTree(rootPath, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				if (file.getFileName().toString().endsWith(".class")) {
+					// Summing up makes the fingerprint independent of the order in which files are visited
+					fingerprint[0] += ofFile(rootPath.relativize(file).toString(), attributes);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return fingerprint[0];
+	}
+
+	private static long ofFile(String path, BasicFileAttributes attributes) {
+		long hash = path.hashCode();
+		hash = MathSupport.mix64(hash * 31 + attributes.size());
+		hash = MathSupport.mix64(hash * 31 + attributes.lastModifiedTime().toMillis());
+		return hash;
+	}
+}
@@ -43,6 +43,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
+		String maxDuration = property.maxDuration().equals(Property.MAX_DURATION_NOT_SET)
+								 ? null
+								 : property.maxDuration();
+
 		return new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
@@ -52,7 +56,8 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			maxDuration
 		);
 	}
 
@@ -65,6 +70,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private String maxDuration;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -76,7 +82,8 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			EdgeCasesMode edgeCasesMode,
 			String stereotype,
 			String seed,
-			FixedSeedMode whenFixedSeed
+			FixedSeedMode whenFixedSeed,
+			String maxDuration
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +94,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.maxDuration = maxDuration;
 	}
 
 	@Override
@@ -134,6 +142,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<String> maxDuration() {
+		return Optional.ofNullable(maxDuration);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +191,9 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setMaxDuration(String maxDuration) {
+		this.maxDuration = maxDuration;
+	}
 }
@@ -0,0 +1,138 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Remembers the names of the container classes that have been found in a classpath root.
+ * As long as the class files of all selected classpath roots are unchanged,
+ * later discoveries can load just those classes instead of scanning all classes of a root.
+ *
+ * <pre>
+ * file  := magic:int version:short entry*
+ * entry := root:utf fingerprint:long count:int className:utf{count}
+ * </pre>
+ *
+ * @see ClasspathFingerprint
+ */
+public class DiscoveryIndex {
+
+	private static final Logger LOG = Logger.getLogger(DiscoveryIndex.class.getName());
+
+	static final int MAGIC = 0x6A717769; // "jqwi"
+	static final short VERSION = 1;
+
+	public static Path indexPathFor(Path databasePath) {
+		return databasePath.resolveSibling(databasePath.getFileName() + ".discovery");
+	}
+
+	public static DiscoveryIndex disabled() {
+		return new DiscoveryIndex(null);
+	}
+
+	// null if the index is disabled
+	private final Path indexPath;
+
+	private final Map<String, IndexEntry> entries = new LinkedHashMap<>();
+	private boolean changed = false;
+
+	public DiscoveryIndex(Path indexPath) {
+		this.indexPath = indexPath;
+		if (indexPath != null) {
+			load();
+		}
+	}
+
+	public boolean isEnabled() {
+		return indexPath != null;
+	}
+
+	private void load() {
+		if (!Files.exists(indexPath)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+			readHeader(in);
+			while (true) {
+				String root;
+				try {
+					root = in.readUTF();
+				} catch (EOFException eof) {
+					break;
+				}
+				long fingerprint = in.readLong();
+				int count = in.readInt();
+				List<String> classNames = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					classNames.add(in.readUTF());
+				}
+				entries.put(root, new IndexEntry(fingerprint, classNames));
+			}
+		} catch (Exception e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read discovery index [%s]", indexPath.toAbsolutePath()));
+			entries.clear();
+			changed = true;
+		}
+	}
+
+	private void readHeader(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+			throw new IOException("Discovery index has unknown format");
+		}
+	}
+
+	/**
+	 * @return the names of the container classes in {@code root}
+	 * or {@linkplain Optional#empty()} if {@code root} has not been indexed with the same fingerprint
+	 */
+	Optional<List<String>> containerClassNames(String root, long fingerprint) {
+		IndexEntry entry = entries.get(root);
+		if (entry == null || entry.fingerprint != fingerprint) {
+			return Optional.empty();
+		}
+		return Optional.of(entry.classNames);
+	}
+
+	void update(String root, long fingerprint, List<String> containerClassNames) {
+		if (!isEnabled()) {
+			return;
+		}
+		IndexEntry previous = entries.put(root, new IndexEntry(fingerprint, new ArrayList<>(containerClassNames)));
+		if (previous == null || previous.fingerprint != fingerprint || !previous.classNames.equals(containerClassNames)) {
+			changed = true;
+		}
+	}
+
+	void save() {
+		if (!isEnabled() || !changed) {
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexPath)))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			for (Map.Entry<String, IndexEntry> entry : entries.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().fingerprint);
+				out.writeInt(entry.getValue().classNames.size());
+				for (String className : entry.getValue().classNames) {
+					out.writeUTF(className);
+				}
+			}
+			changed = false;
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write discovery index [%s]", indexPath.toAbsolutePath()));
+		}
+	}
+
+	private static class IndexEntry {
+		private final long fingerprint;
+		private final List<String> classNames;
+
+		private IndexEntry(long fingerprint, List<String> classNames) {
+			this.fingerprint = fingerprint;
+			this.classNames = classNames;
+		}
+	}
+}
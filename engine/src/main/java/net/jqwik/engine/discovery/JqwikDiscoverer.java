@@ -1,7 +1,9 @@
 package net.jqwik.engine.discovery;
 
+import java.net.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.discovery.*;
@@ -19,10 +21,16 @@ public class JqwikDiscoverer {
 
 	private final TestRunData testRunData;
 	private final PropertyAttributesDefaults propertyDefaultValues;
+	private final DiscoveryIndex discoveryIndex;
 
 	public JqwikDiscoverer(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues) {
+		this(testRunData, propertyDefaultValues, DiscoveryIndex.disabled());
+	}
+
+	public JqwikDiscoverer(TestRunData testRunData, PropertyAttributesDefaults propertyDefaultValues, DiscoveryIndex discoveryIndex) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
+		this.discoveryIndex = discoveryIndex;
 	}
 
 	public void discover(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
@@ -40,8 +48,11 @@ public class JqwikDiscoverer {
 					);
 				});
 		});
-		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate)
+		List<ClasspathRootSelector> classpathRootSelectors = request.getSelectorsByType(ClasspathRootSelector.class);
+		Optional<Long> classpathFingerprint = fingerprintClasspathRoots(classpathRootSelectors);
+		boolean isUnfiltered = isUnfiltered(request);
+		classpathRootSelectors.forEach(selector -> {
+			findContainerClassesInClasspathRoot(selector.getClasspathRoot(), classpathFingerprint, classNamePredicate, isUnfiltered)
 				.forEach(testClass -> {
 					discoveryListener.selectorProcessed(
 						engineDescriptor.getUniqueId(),
@@ -81,6 +92,62 @@ public class JqwikDiscoverer {
 				javaElementsResolver.resolveUniqueId(selector.getUniqueId())
 			);
 		});
+		discoveryIndex.save();
+	}
+
+	private Optional<Long> fingerprintClasspathRoots(List<ClasspathRootSelector> selectors) {
+		if (!discoveryIndex.isEnabled() || selectors.isEmpty()) {
+			return Optional.empty();
+		}
+		List<URI> roots = selectors.stream().map(ClasspathRootSelector::getClasspathRoot).collect(Collectors.toList());
+		return ClasspathFingerprint.of(roots);
+	}
+
+	private List<Class<?>> findContainerClassesInClasspathRoot(
+		URI root,
+		Optional<Long> fingerprint,
+		Predicate<String> classNamePredicate,
+		boolean isUnfiltered
+	) {
+		if (!fingerprint.isPresent()) {
+			return findAllClassesInClasspathRoot(root, isScannableTestClass, classNamePredicate);
+		}
+		Optional<List<Class<?>>> indexedClasses =
+			discoveryIndex.containerClassNames(root.toString(), fingerprint.get())
+						  .flatMap(classNames -> loadContainerClasses(classNames, classNamePredicate));
+		if (indexedClasses.isPresent()) {
+			return indexedClasses.get();
+		}
+		List<Class<?>> containerClasses = findAllClassesInClasspathRoot(root, isScannableTestClass, classNamePredicate);
+		// The containers found with a class name filter are not all containers of the root
+		if (isUnfiltered) {
+			List<String> classNames = containerClasses.stream().map(Class::getName).collect(Collectors.toList());
+			discoveryIndex.update(root.toString(), fingerprint.get(), classNames);
+		}
+		return containerClasses;
+	}
+
+	/**
+	 * @return {@linkplain Optional#empty()} if an indexed class can no longer be loaded or is no longer a container
+	 */
+	private Optional<List<Class<?>>> loadContainerClasses(List<String> classNames, Predicate<String> classNamePredicate) {
+		List<Class<?>> containerClasses = new ArrayList<>();
+		for (String className : classNames) {
+			if (!classNamePredicate.test(className)) {
+				continue;
+			}
+			Optional<Class<?>> containerClass = tryToLoadClass(className).toOptional().filter(isScannableTestClass);
+			if (!containerClass.isPresent()) {
+				return Optional.empty();
+			}
+			containerClasses.add(containerClass.get());
+		}
+		return Optional.of(containerClasses);
+	}
+
+	private static boolean isUnfiltered(EngineDiscoveryRequest request) {
+		return request.getFiltersByType(ClassNameFilter.class).isEmpty()
+				   && request.getFiltersByType(PackageNameFilter.class).isEmpty();
 	}
 
 	private HierarchicalJavaResolver createHierarchicalResolver(TestDescriptor engineDescriptor) {
@@ -92,7 +92,8 @@ class PropertyMethodResolver implements ElementResolver {
 			propertyDefaultValues,
 			previousSeed,
 			falsifiedSample
-		);
+		).withRegressionSamples(testRunData.failingSamples(uniqueId))
+			.withExhaustiveStartPosition(exhaustiveCheckpoint(uniqueId));
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
 
@@ -110,6 +111,12 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(null);
 	}
 
+	private long exhaustiveCheckpoint(UniqueId uniqueId) {
+		return testRunData.byUniqueId(uniqueId)
+						  .flatMap(TestRun::exhaustiveCheckpoint)
+						  .orElse(0L);
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
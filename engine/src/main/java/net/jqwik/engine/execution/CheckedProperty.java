@@ -27,8 +27,14 @@ public class CheckedProperty {
 	private final ResolveParameterHook resolveParameterHook;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
+	private final PropertyInstrumentation instrumentation;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
 
+	// The part of the exhaustive space that is checked in this run; null if generation is not exhaustive
+	private ExhaustiveShrinkablesGenerator exhaustiveSlice;
+	private long exhaustiveSliceStart;
+	private long exhaustiveSliceEnd;
+
 	public CheckedProperty(
 			String propertyName,
 			TryLifecycleExecutor tryLifecycleExecutor,
@@ -38,6 +44,30 @@ public class CheckedProperty {
 			PropertyLifecycleContext propertyLifecycleContext,
 			Optional<Iterable<? extends Tuple>> optionalData,
 			PropertyConfiguration configuration
+	) {
+		this(
+				propertyName,
+				tryLifecycleExecutor,
+				propertyParameters,
+				arbitraryResolver,
+				resolveParameterHook,
+				propertyLifecycleContext,
+				optionalData,
+				configuration,
+				PropertyInstrumentation.NONE
+		);
+	}
+
+	public CheckedProperty(
+			String propertyName,
+			TryLifecycleExecutor tryLifecycleExecutor,
+			List<MethodParameter> propertyParameters,
+			ArbitraryResolver arbitraryResolver,
+			ResolveParameterHook resolveParameterHook,
+			PropertyLifecycleContext propertyLifecycleContext,
+			Optional<Iterable<? extends Tuple>> optionalData,
+			PropertyConfiguration configuration,
+			PropertyInstrumentation instrumentation
 	) {
 		this.propertyName = propertyName;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
@@ -48,6 +78,7 @@ public class CheckedProperty {
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.optionalData = optionalData;
 		this.configuration = configuration;
+		this.instrumentation = instrumentation;
 	}
 
 	private List<MethodParameter> selectForAllParameters(List<MethodParameter> propertyParameters) {
@@ -64,7 +95,8 @@ public class CheckedProperty {
 		maybeWarnOnMultipleTriesWithoutForallParameters(effectiveConfiguration);
 		try {
 			Reporter reporter = propertyLifecycleContext.reporter();
-			return createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			PropertyCheckResult checkResult = createGenericProperty(effectiveConfiguration).check(reporter, reporting);
+			return withExhaustiveCheckpoint(checkResult);
 		} catch (CannotFindArbitraryException cannotFindArbitraryException) {
 			return failed(effectiveConfiguration, cannotFindArbitraryException);
 		}
@@ -135,12 +167,12 @@ public class CheckedProperty {
 			ensureValidDataDrivenMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
 			ensureValidExhaustiveMode();
-			configuration = configuration.withTries(
-					Math.toIntExact(getOptionalExhaustive().get().maxCount())
-			);
 		} else if (configuration.getGenerationMode() == GenerationMode.AUTO) {
 			configuration = chooseGenerationMode(configuration);
 		}
+		if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
+			configuration = sliceExhaustiveGeneration(configuration);
+		}
 		ForAllParametersGenerator shrinkablesGenerator = createShrinkablesGenerator(configuration);
 		ResolvingParametersGenerator parametersGenerator = new ResolvingParametersGenerator(
 				propertyParameters,
@@ -149,7 +181,14 @@ public class CheckedProperty {
 				propertyLifecycleContext
 		);
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
-		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
+		return new GenericProperty(
+				propertyName,
+				configuration,
+				parametersGenerator,
+				tryLifecycleExecutor,
+				tryLifecycleContextSupplier,
+				instrumentation
+		);
 	}
 
 	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration) {
@@ -162,13 +201,23 @@ public class CheckedProperty {
 							   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
 			}
 		}
+		if (shouldTryRegressionSamples(configuration)) {
+			return new RegressionSamplesShrinkablesGenerator(forAllParameters, configuration.getRegressionSamples())
+					   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
+		}
 		return createDefaultShrinkablesGenerator(configuration);
 	}
 
+	private boolean shouldTryRegressionSamples(PropertyConfiguration configuration) {
+		return configuration.getGenerationMode() == GenerationMode.RANDOMIZED
+				   && !forAllParameters.isEmpty()
+				   && !configuration.getRegressionSamples().isEmpty();
+	}
+
 	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration) {
 		switch (configuration.getGenerationMode()) {
 			case EXHAUSTIVE:
-				return getOptionalExhaustive().get();
+				return exhaustiveSlice;
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
 			default:
@@ -176,6 +225,41 @@ public class CheckedProperty {
 		}
 	}
 
+	private PropertyConfiguration sliceExhaustiveGeneration(PropertyConfiguration configuration) {
+		ExhaustiveShrinkablesGenerator exhaustive = getOptionalExhaustive().get();
+		long maxCount = exhaustive.maxCount();
+		long start = configuration.getExhaustiveStartPosition();
+		if (start < 0 || start >= maxCount) {
+			// The exhaustive space has changed since the checkpoint was recorded
+			start = 0;
+		}
+		long sliceSize = configuration.exhaustiveSliceSize();
+		long end = sliceSize > 0 && sliceSize < maxCount - start ? start + sliceSize : maxCount;
+		exhaustiveSlice = start == 0 && end == maxCount ? exhaustive : exhaustive.slice(start, end);
+		exhaustiveSliceStart = start;
+		exhaustiveSliceEnd = end;
+		return configuration.withTries(Math.toIntExact(end - start));
+	}
+
+	/**
+	 * Successful runs that have not covered the full exhaustive space - due to slicing or max duration -
+	 * record the position from which the next run will continue.
+	 * Failing runs record the start of their slice so that the next run checks it again.
+	 */
+	private PropertyCheckResult withExhaustiveCheckpoint(PropertyCheckResult checkResult) {
+		if (exhaustiveSlice == null) {
+			return checkResult;
+		}
+		if (checkResult.status() == PropertyExecutionResult.Status.FAILED) {
+			return exhaustiveSliceStart > 0 ? checkResult.withExhaustiveCheckpoint(exhaustiveSliceStart) : checkResult;
+		}
+		boolean spaceExhausted = exhaustiveSliceEnd >= exhaustiveSlice.maxCount() && !exhaustiveSlice.hasNext();
+		if (spaceExhausted) {
+			return checkResult;
+		}
+		return checkResult.withExhaustiveCheckpoint(exhaustiveSlice.position());
+	}
+
 	private void ensureValidRandomizedMode() {
 		if (optionalData.isPresent()) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = RANDOMIZED)");
@@ -231,7 +315,7 @@ public class CheckedProperty {
 	}
 
 	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
-		Random random = SourceOfRandomness.create(configuration.getSeed());
+		Random random = SourceOfRandomness.create(configuration.getSeed(), configuration.randomAlgorithm());
 		return RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
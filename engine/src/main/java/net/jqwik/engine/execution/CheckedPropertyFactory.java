@@ -23,13 +23,24 @@ public class CheckedPropertyFactory {
 		PropertyLifecycleContext propertyLifecycleContext,
 		AroundTryHook aroundTry,
 		ResolveParameterHook parameterResolver
+	) {
+		return fromDescriptor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, parameterResolver, InstrumentationHook.NONE);
+	}
+
+	public CheckedProperty fromDescriptor(
+		PropertyMethodDescriptor propertyMethodDescriptor,
+		PropertyLifecycleContext propertyLifecycleContext,
+		AroundTryHook aroundTry,
+		ResolveParameterHook parameterResolver,
+		InstrumentationHook instrumentationHook
 	) {
 		String propertyName = propertyMethodDescriptor.extendedLabel();
 
 		Method propertyMethod = propertyMethodDescriptor.getTargetMethod();
 		PropertyConfiguration configuration = propertyMethodDescriptor.getConfiguration();
 
-		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry);
+		PropertyInstrumentation instrumentation = PropertyInstrumentation.of(instrumentationHook, propertyLifecycleContext);
+		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, instrumentation);
 		List<MethodParameter> propertyParameters = extractParameters(propertyMethod, propertyMethodDescriptor.getContainerClass());
 
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
@@ -49,14 +60,16 @@ public class CheckedPropertyFactory {
 			parameterResolver,
 			propertyLifecycleContext,
 			optionalData,
-			configuration
+			configuration,
+			instrumentation
 		);
 	}
 
 	private TryLifecycleExecutor createTryExecutor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		AroundTryHook aroundTry
+		AroundTryHook aroundTry,
+		PropertyInstrumentation instrumentation
 	) {
 		AroundTryHook aroundTryWithFinishing = (context, aTry, parameters) -> {
 			try {
@@ -67,9 +80,35 @@ public class CheckedPropertyFactory {
 		};
 
 		TryExecutor rawExecutor = createRawExecutor(propertyLifecycleContext);
+		if (instrumentation.isActive()) {
+			return new AroundTryLifecycle(
+				measuredExecutor(rawExecutor, instrumentation),
+				measuredAroundTry(aroundTryWithFinishing, instrumentation)
+			);
+		}
 		return new AroundTryLifecycle(rawExecutor, aroundTryWithFinishing);
 	}
 
+	private TryExecutor measuredExecutor(TryExecutor rawExecutor, PropertyInstrumentation instrumentation) {
+		return parameters -> instrumentation.measure(
+			InstrumentationHook.Phase.METHOD_INVOCATION,
+			() -> rawExecutor.execute(parameters)
+		);
+	}
+
+	private AroundTryHook measuredAroundTry(AroundTryHook aroundTry, PropertyInstrumentation instrumentation) {
+		return (context, aTry, parameters) -> instrumentation.measure(
+			InstrumentationHook.Phase.AROUND_TRY,
+			() -> {
+				try {
+					return aroundTry.aroundTry(context, aTry, parameters);
+				} catch (Throwable throwable) {
+					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+				}
+			}
+		);
+	}
+
 	private TryExecutor createRawExecutor(PropertyLifecycleContext propertyLifecycleContext) {
 		return createRawFunction(propertyLifecycleContext);
 	}
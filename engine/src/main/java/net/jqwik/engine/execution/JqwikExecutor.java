@@ -17,6 +17,7 @@ public class JqwikExecutor {
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final int executionParallelism;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -29,25 +30,49 @@ public class JqwikExecutor {
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, 1);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int executionParallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.executionParallelism = executionParallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
-		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
+		if (executionParallelism > 1) {
+			executeConcurrently(descriptor, new SerializingExecutionListener(recordingListener));
+		} else {
+			executeSequentially(descriptor, recordingListener);
+		}
+	}
+
+	private void executeSequentially(TestDescriptor descriptor, PropertyExecutionListener listener) {
+		ExecutionPipeline pipeline = new ExecutionPipeline(listener);
+		ExecutionTask mainTask = createTask(descriptor, pipeline, listener);
 		pipeline.submit(mainTask);
-		letNonSuccessfulTestsExecuteFirst(pipeline);
+		previousFailedTests.forEach(pipeline::executeFirst);
 		pipeline.runToTermination();
 	}
 
-	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
+	private void executeConcurrently(TestDescriptor descriptor, PropertyExecutionListener listener) {
+		ConcurrentExecutionPipeline pipeline = new ConcurrentExecutionPipeline(listener, executionParallelism);
+		ExecutionTask mainTask = createTask(descriptor, pipeline, listener);
+		pipeline.submit(mainTask);
 		previousFailedTests.forEach(pipeline::executeFirst);
+		pipeline.runToTermination();
 	}
 
 	private ExecutionTask createTask(TestDescriptor descriptor, Pipeline pipeline, PropertyExecutionListener propertyExecutionListener) {
@@ -83,12 +83,13 @@ public class PropertyMethodExecutor {
 		AroundPropertyHook aroundProperty = lifecycleSupplier.aroundPropertyHook(methodDescriptor);
 		AroundTryHook aroundTry = lifecycleSupplier.aroundTryHook(methodDescriptor);
 		ResolveParameterHook resolveParameter = lifecycleSupplier.resolveParameterHook(methodDescriptor);
+		InstrumentationHook instrumentation = lifecycleSupplier.instrumentationHook(methodDescriptor);
 
 		PropertyExecutionResult propertyExecutionResult;
 		try {
 			propertyExecutionResult = aroundProperty.aroundProperty(
 				propertyLifecycleContext,
-				() -> executeMethod(aroundTry, resolveParameter)
+				() -> executeMethod(aroundTry, resolveParameter, instrumentation)
 			);
 		} catch (Throwable throwable) {
 			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
@@ -105,10 +106,11 @@ public class PropertyMethodExecutor {
 
 	private ExtendedPropertyExecutionResult executeMethod(
 		AroundTryHook aroundTry,
-		ResolveParameterHook resolveParameter
+		ResolveParameterHook resolveParameter,
+		InstrumentationHook instrumentation
 	) {
 		try {
-			return executeProperty(aroundTry, resolveParameter);
+			return executeProperty(aroundTry, resolveParameter, instrumentation);
 		} catch (TestAbortedException e) {
 			return PlainExecutionResult.aborted(e, methodDescriptor.getConfiguration().getSeed());
 		} catch (Throwable t) {
@@ -117,12 +119,17 @@ public class PropertyMethodExecutor {
 		}
 	}
 
-	private PropertyCheckResult executeProperty(AroundTryHook aroundTry, ResolveParameterHook resolveParameter) {
+	private PropertyCheckResult executeProperty(
+		AroundTryHook aroundTry,
+		ResolveParameterHook resolveParameter,
+		InstrumentationHook instrumentation
+	) {
 		CheckedProperty property = checkedPropertyFactory.fromDescriptor(
 			methodDescriptor,
 			propertyLifecycleContext,
 			aroundTry,
-			resolveParameter
+			resolveParameter,
+			instrumentation
 		);
 		return property.check(methodDescriptor.getReporting());
 	}
@@ -7,6 +7,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.recording.*;
 
 public class RecordingExecutionListener implements PropertyExecutionListener {
@@ -55,10 +56,18 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 		List<Object> sample = executionResult.falsifiedParameters()
 											 .filter(this::isSerializable)
 											 .orElse(null);
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample);
+		Long exhaustiveCheckpoint = exhaustiveCheckpoint(executionResult);
+		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample, exhaustiveCheckpoint);
 		recorder.record(run);
 	}
 
+	private Long exhaustiveCheckpoint(PropertyExecutionResult executionResult) {
+		if (executionResult instanceof ExtendedPropertyExecutionResult) {
+			return ((ExtendedPropertyExecutionResult) executionResult).exhaustiveCheckpoint().orElse(null);
+		}
+		return null;
+	}
+
 	private boolean isSerializable(List<Object> sample) {
 		if (!(sample instanceof Serializable)) {
 			return false;
@@ -0,0 +1,39 @@
+package net.jqwik.engine.execution;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Makes sure that events from concurrently executed tasks reach the JUnit platform
+ * and the test run recorder one at a time.
+ */
+public class SerializingExecutionListener implements PropertyExecutionListener {
+
+	private final PropertyExecutionListener listener;
+
+	SerializingExecutionListener(PropertyExecutionListener listener) {
+		this.listener = listener;
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		listener.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		listener.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+		listener.executionFinished(testDescriptor, executionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		listener.reportingEntryPublished(testDescriptor, entry);
+	}
+}
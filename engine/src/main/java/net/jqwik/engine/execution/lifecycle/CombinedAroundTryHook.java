@@ -0,0 +1,49 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Calls around try hooks from outermost to innermost.
+ * The innermost hook gets the actual try executor.
+ *
+ * <p>
+ * The hooks are combined once per descriptor. The executors that are handed to outer hooks,
+ * however, are created for each try because they depend on the try's context and executor.
+ * </p>
+ */
+class CombinedAroundTryHook implements AroundTryHook {
+
+	private final AroundTryHook[] aroundTryHooks;
+
+	CombinedAroundTryHook(List<AroundTryHook> aroundTryHooks) {
+		this.aroundTryHooks = aroundTryHooks.toArray(new AroundTryHook[0]);
+	}
+
+	@Override
+	public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) throws Throwable {
+		return aroundTry(0, context, aTry, parameters);
+	}
+
+	private TryExecutionResult aroundTry(
+		int index,
+		TryLifecycleContext context,
+		TryExecutor aTry,
+		List<Object> parameters
+	) throws Throwable {
+		AroundTryHook hook = aroundTryHooks[index];
+		if (index == aroundTryHooks.length - 1) {
+			return hook.aroundTry(context, aTry, parameters);
+		}
+		TryExecutor innerExecutor = innerParameters -> {
+			try {
+				return aroundTry(index + 1, context, aTry, innerParameters);
+			} catch (Throwable throwable) {
+				return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+			}
+		};
+		return hook.aroundTry(context, innerExecutor, parameters);
+	}
+}
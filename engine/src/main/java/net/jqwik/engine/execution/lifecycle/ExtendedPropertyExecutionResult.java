@@ -1,5 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
@@ -13,6 +15,11 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * @return the position in the space of exhaustively generated samples at which the next run should continue
+	 */
+	Optional<Long> exhaustiveCheckpoint();
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
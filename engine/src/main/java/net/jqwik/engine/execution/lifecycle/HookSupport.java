@@ -36,22 +36,10 @@ public class HookSupport {
 		if (aroundTryHooks.isEmpty()) {
 			return AroundTryHook.BASE;
 		}
-		aroundTryHooks = new ArrayList<>(aroundTryHooks);
-		AroundTryHook first = aroundTryHooks.remove(0);
-		return wrap(first, combineAroundTryHooks(aroundTryHooks));
-	}
-
-	private static AroundTryHook wrap(AroundTryHook outer, AroundTryHook inner) {
-		return (context, aTry, outerParams) -> {
-			TryExecutor innerExecutor = (innerParams) -> {
-				try {
-					return inner.aroundTry(context, aTry, innerParams);
-				} catch (Throwable throwable) {
-					return JqwikExceptionSupport.throwAsUncheckedException(throwable);
-				}
-			};
-			return outer.aroundTry(context, innerExecutor, outerParams);
-		};
+		if (aroundTryHooks.size() == 1) {
+			return aroundTryHooks.get(0);
+		}
+		return new CombinedAroundTryHook(aroundTryHooks);
 	}
 
 	public static SkipExecutionHook combineSkipExecutionHooks(List<SkipExecutionHook> skipExecutionHooks) {
@@ -104,4 +92,27 @@ public class HookSupport {
 		return new CombinedResolveParameterHook(resolveParameterHooks);
 	}
 
+	public static InstrumentationHook combineInstrumentationHooks(List<InstrumentationHook> instrumentationHooks) {
+		if (instrumentationHooks.isEmpty()) {
+			return InstrumentationHook.NONE;
+		}
+		if (instrumentationHooks.size() == 1) {
+			return instrumentationHooks.get(0);
+		}
+		boolean measureAllocations = instrumentationHooks.stream().anyMatch(InstrumentationHook::measureAllocations);
+		return new InstrumentationHook() {
+			@Override
+			public void measured(PropertyLifecycleContext context, Phase phase, long nanos, long allocatedBytes) {
+				for (InstrumentationHook hook : instrumentationHooks) {
+					hook.measured(context, phase, nanos, hook.measureAllocations() ? allocatedBytes : -1);
+				}
+			}
+
+			@Override
+			public boolean measureAllocations() {
+				return measureAllocations;
+			}
+		};
+	}
+
 }
@@ -2,6 +2,8 @@ package net.jqwik.engine.execution.lifecycle;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 import java.util.logging.*;
 import java.util.stream.*;
 
@@ -23,43 +25,79 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (a, b) -> 0;
 	}
 
-	private final List<HookRegistration> registrations = new ArrayList<>();
+	// Registrations per descriptor in order of registration
+	private final Map<TestDescriptor, List<HookRegistration>> registrations = new HashMap<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new HashMap<>();
+	private int countRegistrations = 0;
+
+	// Combined hooks per descriptor and hook type. Must be cleared whenever a hook is registered.
+	private final Map<HooksKey, Object> combinedHooks = new ConcurrentHashMap<>();
 
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
-		return HookSupport.combineAroundPropertyHooks(aroundPropertyHooks);
+		return combinedHooks(
+			propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo,
+			HookSupport::combineAroundPropertyHooks
+		);
 	}
 
 	@Override
 	public AroundTryHook aroundTryHook(PropertyMethodDescriptor propertyMethodDescriptor) {
-		List<AroundTryHook> aroundTryHooks = findHooks(propertyMethodDescriptor, AroundTryHook.class, AroundTryHook::compareTo);
-		return HookSupport.combineAroundTryHooks(aroundTryHooks);
+		return combinedHooks(
+			propertyMethodDescriptor, AroundTryHook.class, AroundTryHook::compareTo,
+			HookSupport::combineAroundTryHooks
+		);
 	}
 
 	@Override
 	public BeforeContainerHook beforeContainerHook(TestDescriptor descriptor) {
-		List<BeforeContainerHook> beforeContainerHooks = findHooks(descriptor, BeforeContainerHook.class, BeforeContainerHook::compareTo);
-		return HookSupport.combineBeforeContainerHooks(beforeContainerHooks);
+		return combinedHooks(
+			descriptor, BeforeContainerHook.class, BeforeContainerHook::compareTo,
+			HookSupport::combineBeforeContainerHooks
+		);
 	}
 
 	@Override
 	public AfterContainerHook afterContainerHook(TestDescriptor descriptor) {
-		List<AfterContainerHook> afterContainerHooks = findHooks(descriptor, AfterContainerHook.class, AfterContainerHook::compareTo);
-		return HookSupport.combineAfterContainerHooks(afterContainerHooks);
+		return combinedHooks(
+			descriptor, AfterContainerHook.class, AfterContainerHook::compareTo,
+			HookSupport::combineAfterContainerHooks
+		);
 	}
 
 	@Override
 	public ResolveParameterHook resolveParameterHook(TestDescriptor descriptor) {
-		List<ResolveParameterHook> resolveParameterHooks = findHooks(descriptor, ResolveParameterHook.class, dontCompare());
-		return HookSupport.combineResolveParameterHooks(resolveParameterHooks);
+		return combinedHooks(
+			descriptor, ResolveParameterHook.class, dontCompare(),
+			HookSupport::combineResolveParameterHooks
+		);
 	}
 
 	@Override
 	public SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor) {
-		List<SkipExecutionHook> skipExecutionHooks = findHooks(testDescriptor, SkipExecutionHook.class, dontCompare());
-		return HookSupport.combineSkipExecutionHooks(skipExecutionHooks);
+		return combinedHooks(
+			testDescriptor, SkipExecutionHook.class, dontCompare(),
+			HookSupport::combineSkipExecutionHooks
+		);
+	}
+
+	@Override
+	public InstrumentationHook instrumentationHook(PropertyMethodDescriptor propertyMethodDescriptor) {
+		return combinedHooks(
+			propertyMethodDescriptor, InstrumentationHook.class, dontCompare(),
+			HookSupport::combineInstrumentationHooks
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends LifecycleHook, C> C combinedHooks(
+		TestDescriptor descriptor,
+		Class<T> hookType,
+		Comparator<T> comparator,
+		Function<List<T>, C> combine
+	) {
+		HooksKey key = new HooksKey(descriptor, hookType);
+		return (C) combinedHooks.computeIfAbsent(key, ignore -> combine.apply(findHooks(descriptor, hookType, comparator)));
 	}
 
 	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
@@ -98,12 +136,25 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (T) instances.get(hookClass);
 	}
 
+	/**
+	 * Only registrations of the descriptor itself and its ancestors can match.
+	 * Hook classes are returned in order of registration.
+	 */
 	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<Class<T>> findHookClasses(TestDescriptor descriptor, Class<T> hookType) {
-		return registrations
+		List<HookRegistration> matchingRegistrations = new ArrayList<>();
+		int nesting = 0;
+		for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+			for (HookRegistration registration : registrations.getOrDefault(current, Collections.emptyList())) {
+				if (registration.matchNesting(nesting) && registration.match(hookType)) {
+					matchingRegistrations.add(registration);
+				}
+			}
+			nesting++;
+		}
+		matchingRegistrations.sort(Comparator.comparingInt(registration -> registration.order));
+		return matchingRegistrations
 				   .stream()
-				   .filter(registration -> registration.match(descriptor))
-				   .filter(registration -> registration.match(hookType))
 				   .map(registration -> (Class<T>) registration.hookClass)
 				   .distinct()
 				   .collect(Collectors.toList());
@@ -126,9 +177,12 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		Class<? extends LifecycleHook> hookClass,
 		PropagationMode propagateTo
 	) {
-		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
-		if (!registrations.contains(registration)) {
-			registrations.add(registration);
+		List<HookRegistration> descriptorRegistrations = registrations.computeIfAbsent(descriptor, ignore -> new ArrayList<>());
+		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo, countRegistrations);
+		if (!descriptorRegistrations.contains(registration)) {
+			descriptorRegistrations.add(registration);
+			countRegistrations++;
+			combinedHooks.clear();
 		}
 	}
 
@@ -179,11 +233,13 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		private final TestDescriptor descriptor;
 		private final Class<? extends LifecycleHook> hookClass;
 		private final PropagationMode propagationMode;
+		private final int order;
 
 		private HookRegistration(
 			TestDescriptor descriptor,
 			Class<? extends LifecycleHook> hookClass,
-			PropagationMode propagationMode
+			PropagationMode propagationMode,
+			int order
 		) {
 			if (propagationMode == NOT_SET) {
 				throw new IllegalArgumentException("propagation mode must be set by caller");
@@ -191,26 +247,17 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 			this.descriptor = descriptor;
 			this.hookClass = hookClass;
 			this.propagationMode = propagationMode;
+			this.order = order;
 		}
 
-		boolean match(TestDescriptor descriptor) {
-			return match(descriptor, 0);
-		}
-
-		private boolean match(TestDescriptor descriptor, int nesting) {
-			if (descriptor == null) {
-				return false;
-			}
+		/**
+		 * @param nesting the distance from the registration's descriptor down to a descendant
+		 */
+		boolean matchNesting(int nesting) {
 			if (nesting > 0 && (propagationMode == NO_DESCENDANTS)) {
 				return false;
 			}
-			if (nesting > 1 && (propagationMode != ALL_DESCENDANTS)) {
-				return false;
-			}
-			if (this.descriptor.equals(descriptor)) {
-				return true;
-			}
-			return match(descriptor.getParent().orElse(null), nesting + 1);
+			return nesting <= 1 || propagationMode == ALL_DESCENDANTS;
 		}
 
 		boolean match(Class<? extends LifecycleHook> hookType) {
@@ -235,5 +282,32 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 			return result;
 		}
 	}
-}
 
+	private static class HooksKey {
+		private final TestDescriptor descriptor;
+		private final Class<? extends LifecycleHook> hookType;
+
+		private HooksKey(TestDescriptor descriptor, Class<? extends LifecycleHook> hookType) {
+			this.descriptor = descriptor;
+			this.hookType = hookType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			HooksKey that = (HooksKey) o;
+
+			if (!descriptor.equals(that.descriptor)) return false;
+			return hookType.equals(that.hookType);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = descriptor.hashCode();
+			result = 31 * result + hookType.hashCode();
+			return result;
+		}
+	}
+}
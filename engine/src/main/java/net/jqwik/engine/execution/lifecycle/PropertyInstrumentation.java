@@ -0,0 +1,135 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.lang.management.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.InstrumentationHook.*;
+
+/**
+ * Measures phases of a property's execution and hands the results to an {@linkplain InstrumentationHook}.
+ * If no hook applies to a property, {@linkplain #NONE} is used which executes all phases without any measurement.
+ */
+public class PropertyInstrumentation {
+
+	public static final PropertyInstrumentation NONE = new PropertyInstrumentation(InstrumentationHook.NONE, null);
+
+	public static PropertyInstrumentation of(InstrumentationHook hook, PropertyLifecycleContext context) {
+		if (hook == InstrumentationHook.NONE) {
+			return NONE;
+		}
+		return new PropertyInstrumentation(hook, context);
+	}
+
+	private final InstrumentationHook hook;
+	private final PropertyLifecycleContext context;
+	private final boolean measureAllocations;
+
+	private PropertyInstrumentation(InstrumentationHook hook, PropertyLifecycleContext context) {
+		this.hook = hook;
+		this.context = context;
+		this.measureAllocations = hook.measureAllocations() && allocationsCanBeMeasured();
+	}
+
+	private static boolean allocationsCanBeMeasured() {
+		try {
+			return ThreadAllocations.isSupported();
+		} catch (LinkageError cannotMeasure) {
+			return false;
+		}
+	}
+
+	public boolean isActive() {
+		return hook != InstrumentationHook.NONE;
+	}
+
+	public <T> T measure(Phase phase, Supplier<T> code) {
+		if (!isActive()) {
+			return code.get();
+		}
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return code.get();
+		} finally {
+			long nanos = System.nanoTime() - start;
+			hook.measured(context, phase, nanos, allocatedSince(allocatedBefore));
+		}
+	}
+
+	/**
+	 * Measure the time between consecutive calls of the returned consumer, starting now.
+	 */
+	public <T> Consumer<T> measureSteps(Phase phase, Consumer<T> stepConsumer) {
+		if (!isActive()) {
+			return stepConsumer;
+		}
+		return new Consumer<T>() {
+			private long stepStart = System.nanoTime();
+			private long stepThreadId = Thread.currentThread().getId();
+			private long allocatedBefore = allocatedBytes();
+
+			@Override
+			public synchronized void accept(T step) {
+				long nanos = System.nanoTime() - stepStart;
+				// Allocations can only be compared if the step ends on the thread it started on
+				long allocated = stepThreadId == Thread.currentThread().getId() ? allocatedSince(allocatedBefore) : -1;
+				hook.measured(context, phase, nanos, allocated);
+				stepConsumer.accept(step);
+				stepStart = System.nanoTime();
+				stepThreadId = Thread.currentThread().getId();
+				allocatedBefore = allocatedBytes();
+			}
+		};
+	}
+
+	private long allocatedBytes() {
+		return measureAllocations ? ThreadAllocations.currentThread() : -1;
+	}
+
+	private long allocatedSince(long allocatedBefore) {
+		if (allocatedBefore < 0) {
+			return -1;
+		}
+		return ThreadAllocations.currentThread() - allocatedBefore;
+	}
+
+	/**
+	 * Thread allocation counting is only available on JVMs that provide {@code com.sun.management.ThreadMXBean}
+	 */
+	private static class ThreadAllocations {
+
+		private static final Logger LOG = Logger.getLogger(ThreadAllocations.class.getName());
+
+		private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+		private static com.sun.management.ThreadMXBean threadMXBean() {
+			try {
+				ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+				if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+					return null;
+				}
+				com.sun.management.ThreadMXBean allocationsBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if (!allocationsBean.isThreadAllocatedMemorySupported()) {
+					return null;
+				}
+				if (!allocationsBean.isThreadAllocatedMemoryEnabled()) {
+					allocationsBean.setThreadAllocatedMemoryEnabled(true);
+				}
+				return allocationsBean;
+			} catch (LinkageError | RuntimeException cannotMeasure) {
+				LOG.fine(() -> "Thread allocations cannot be measured: " + cannotMeasure.getMessage());
+				return null;
+			}
+		}
+
+		private static boolean isSupported() {
+			return THREAD_MX_BEAN != null;
+		}
+
+		private static long currentThread() {
+			return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+	}
+}
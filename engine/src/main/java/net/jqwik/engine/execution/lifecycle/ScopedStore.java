@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -20,9 +21,9 @@ public class ScopedStore<T> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<T> initializer;
 
-	private final Set<Consumer<T>> onCloseCallbacks = new HashSet<>();
-	private T value;
-	private boolean initialized = false;
+	private final Set<Consumer<T>> onCloseCallbacks = ConcurrentHashMap.newKeySet();
+	private volatile T value;
+	private volatile boolean initialized = false;
 
 	public ScopedStore(Object identifier, Lifespan lifespan, TestDescriptor scope, Supplier<T> initializer) {
 		this.identifier = identifier;
@@ -32,12 +33,22 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
-		if (!initialized) {
-			value = initializer.get();
-			initialized = true;
+	public T get() {
+		Optional<TryScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			return tryScope.get().get(this, initializer);
+		}
+		// Only initialization needs to lock the store
+		if (initialized) {
+			return value;
+		}
+		synchronized (this) {
+			if (!initialized) {
+				value = initializer.get();
+				initialized = true;
+			}
+			return value;
 		}
-		return value;
 	}
 
 	@Override
@@ -46,14 +57,35 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+	public void update(Function<T, T> updater) {
+		Optional<TryScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			tryScope.get().update(this, updater, initializer);
+			return;
+		}
+		synchronized (this) {
+			value = updater.apply(get());
+		}
 	}
 
 	@Override
-	public synchronized void reset() {
-		close();
-		initialized = false;
+	public void reset() {
+		Optional<TryScope> tryScope = currentTryScope();
+		if (tryScope.isPresent()) {
+			tryScope.get().reset(this);
+			return;
+		}
+		synchronized (this) {
+			close();
+			initialized = false;
+		}
+	}
+
+	private Optional<TryScope> currentTryScope() {
+		if (lifespan != Lifespan.TRY) {
+			return Optional.empty();
+		}
+		return TryScope.current();
 	}
 
 	@Override
@@ -92,13 +124,17 @@ public class ScopedStore<T> implements Store<T> {
 		);
 	}
 
-	public void close() {
+	public synchronized void close() {
 		if (!initialized) {
 			return;
 		}
+		runOnCloseCallbacks(value);
+	}
+
+	void runOnCloseCallbacks(T closedValue) {
 		for (Consumer<T> onCloseCallback : onCloseCallbacks) {
 			try {
-				onCloseCallback.accept(value);
+				onCloseCallback.accept(closedValue);
 			} catch (Throwable throwable) {
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 				String message = String.format("Exception while closing store [%s]", this);
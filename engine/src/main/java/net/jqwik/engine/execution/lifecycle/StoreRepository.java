@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -10,22 +11,36 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * Stores are indexed by identifier and by scope so that lookups only have to consider
+ * the stores of a single identifier and resetting stores only the scopes on the retriever's path to the root.
+ *
+ * <p>
+ * Retrieval does not lock at all.
+ * Creation and removal of stores lock the repository so that both indexes are always changed together.
+ * {@linkplain #getOrCreate(TestDescriptor, Object, Lifespan, Supplier)} looks up and creates a store under the same lock
+ * so that concurrent tries never create the same store twice.
+ * </p>
+ *
+ * <p>
+ * Stores with {@linkplain Lifespan#TRY} are registered once per scope. Their values, however, belong to the
+ * current {@linkplain TryScope} if there is one. That's how tries that run concurrently get separate try store values
+ * and {@linkplain #finishTry(TestDescriptor)} only resets the values of the try that is finished.
+ * </p>
  */
 public class StoreRepository {
 
-	private static StoreRepository current;
+	private static final StoreRepository current = new StoreRepository();
 
 	// I hate this singleton as much as any singleton.
 	// It seems to be necessary for the Store API though :-(
-	public synchronized static StoreRepository getCurrent() {
-		if (current == null) {
-			current = new StoreRepository();
-		}
+	public static StoreRepository getCurrent() {
 		return current;
 	}
 
-	private final Set<ScopedStore<?>> stores = new HashSet<>();
+	// Lists in both maps are never changed but replaced while holding the registration lock
+	private final Map<Object, List<ScopedStore<?>>> storesByIdentifier = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, List<ScopedStore<?>>> storesByScope = new ConcurrentHashMap<>();
+	private final Object registrationLock = new Object();
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -33,6 +48,48 @@ public class StoreRepository {
 		Lifespan lifespan,
 		Supplier<T> initializer
 	) {
+		checkCreationArguments(scope, identifier, lifespan, initializer);
+		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
+		addStore(identifier, store);
+		return store;
+	}
+
+	public <T> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<T> initializer
+	) {
+		checkCreationArguments(scope, identifier, lifespan, initializer);
+		Optional<ScopedStore<T>> existing = get(scope, identifier);
+		if (existing.isPresent()) {
+			return checkLifespan(existing.get(), lifespan);
+		}
+		synchronized (registrationLock) {
+			// Another thread might have created the store in the meantime
+			Optional<ScopedStore<T>> createdMeanwhile = get(scope, identifier);
+			if (createdMeanwhile.isPresent()) {
+				return checkLifespan(createdMeanwhile.get(), lifespan);
+			}
+			ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
+			addStore(identifier, store);
+			return store;
+		}
+	}
+
+	private static <T> ScopedStore<T> checkLifespan(ScopedStore<T> store, Lifespan lifespan) {
+		if (!store.lifespan().equals(lifespan)) {
+			String message = String.format(
+				"Trying to recreate existing store [%s] with different lifespan [%s]",
+				store,
+				lifespan
+			);
+			throw new JqwikException(message);
+		}
+		return store;
+	}
+
+	private static void checkCreationArguments(TestDescriptor scope, Object identifier, Lifespan lifespan, Supplier<?> initializer) {
 		if (scope == null) {
 			throw new IllegalArgumentException("scope must not be null");
 		}
@@ -45,17 +102,23 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
-		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
-		addStore(identifier, store);
-		return store;
 	}
 
 	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
+		synchronized (registrationLock) {
+			List<ScopedStore<?>> sameIdentifierStores = storesByIdentifier.getOrDefault(identifier, Collections.emptyList());
+			checkConflicts(identifier, newStore, sameIdentifierStores);
+			storesByIdentifier.put(identifier, added(sameIdentifierStores, newStore));
+			List<ScopedStore<?>> sameScopeStores = storesByScope.getOrDefault(newStore.getScope(), Collections.emptyList());
+			storesByScope.put(newStore.getScope(), added(sameScopeStores, newStore));
+		}
+	}
+
+	private <T> void checkConflicts(Object identifier, ScopedStore<T> newStore, List<ScopedStore<?>> sameIdentifierStores) {
 		Optional<ScopedStore<?>> conflictingStore =
-			stores.stream()
-				  .filter(store -> store.getIdentifier().equals(newStore.getIdentifier()))
-				  .filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
-				  .findFirst();
+			sameIdentifierStores.stream()
+								.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
+								.findFirst();
 
 		conflictingStore.ifPresent(existingStore -> {
 			String message = String.format(
@@ -66,8 +129,22 @@ public class StoreRepository {
 			);
 			throw new JqwikException(message);
 		});
+	}
+
+	private static List<ScopedStore<?>> added(List<ScopedStore<?>> stores, ScopedStore<?> newStore) {
+		List<ScopedStore<?>> changedStores = new ArrayList<>(stores.size() + 1);
+		changedStores.addAll(stores);
+		changedStores.add(newStore);
+		return changedStores;
+	}
 
-		stores.add(newStore);
+	private static List<ScopedStore<?>> removed(List<ScopedStore<?>> stores, ScopedStore<?> storeToRemove) {
+		if (stores == null) {
+			return null;
+		}
+		List<ScopedStore<?>> changedStores = new ArrayList<>(stores);
+		changedStores.remove(storeToRemove);
+		return changedStores.isEmpty() ? null : changedStores;
 	}
 
 	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
@@ -79,24 +156,43 @@ public class StoreRepository {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
 
+		List<ScopedStore<?>> stores = storesByIdentifier.get(identifier);
+		if (stores == null) {
+			return Optional.empty();
+		}
 		//noinspection unchecked
 		return stores.stream()
-					 .filter(store -> store.getIdentifier().equals(identifier))
 					 .filter(store -> store.isVisibleFor(retriever))
 					 .map(store -> (ScopedStore<T>) store)
 					 .findFirst();
 	}
 
 	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			stores
-				.stream()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
-
+		List<ScopedStore<?>> storesToRemove;
+		synchronized (registrationLock) {
+			storesToRemove =
+				Stream.concat(Stream.of(scope), scope.getDescendants().stream())
+					  .flatMap(this::storesIn)
+					  .filter(store -> isStoreIn(store, scope))
+					  .collect(Collectors.toList());
+
+			for (ScopedStore<?> store : storesToRemove) {
+				removeFromIndex(storesByIdentifier, store.getIdentifier(), store);
+				removeFromIndex(storesByScope, store.getScope(), store);
+			}
+		}
+		// Closing runs user code and is therefore done outside the lock
 		for (ScopedStore<?> store : storesToRemove) {
 			store.close();
-			stores.remove(store);
+		}
+	}
+
+	private static <K> void removeFromIndex(Map<K, List<ScopedStore<?>>> index, K key, ScopedStore<?> store) {
+		List<ScopedStore<?>> remainingStores = removed(index.get(key), store);
+		if (remainingStores == null) {
+			index.remove(key);
+		} else {
+			index.put(key, remainingStores);
 		}
 	}
 
@@ -105,18 +201,38 @@ public class StoreRepository {
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.PROPERTY);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
+		Optional<TryScope> tryScope = TryScope.current();
+		if (tryScope.isPresent()) {
+			tryScope.get().finish();
+			return;
+		}
+		resetVisibleStores(scope, Lifespan.TRY);
+	}
+
+	private void resetVisibleStores(TestDescriptor scope, Lifespan lifespan) {
+		pathToRoot(scope)
+			.flatMap(this::storesIn)
+			.filter(store -> store.lifespan() == lifespan)
 			.filter(store -> store.isVisibleFor(scope))
 			.forEach(Store::reset);
 	}
+
+	private Stream<ScopedStore<?>> storesIn(TestDescriptor scope) {
+		List<ScopedStore<?>> stores = storesByScope.get(scope);
+		return stores == null ? Stream.empty() : stores.stream();
+	}
+
+	private static Stream<TestDescriptor> pathToRoot(TestDescriptor descriptor) {
+		List<TestDescriptor> path = new ArrayList<>();
+		Optional<TestDescriptor> next = Optional.of(descriptor);
+		while (next.isPresent()) {
+			path.add(next.get());
+			next = next.get().getParent();
+		}
+		return path.stream();
+	}
 }
@@ -0,0 +1,76 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Holds the values of all stores with {@linkplain Lifespan#TRY} for a single try.
+ *
+ * <p>
+ * Used when tries or shrinking candidates of a property are executed concurrently:
+ * Each of them runs - from generation to {@linkplain StoreRepository#finishTry} - within its own try scope
+ * and thereby sees its own fresh try store values, just like sequentially executed tries do.
+ * Without a current try scope, values are held by the {@linkplain ScopedStore} itself.
+ * </p>
+ *
+ * <p>
+ * A try scope is used by one thread at a time.
+ * </p>
+ */
+public class TryScope {
+
+	private static final ThreadLocal<TryScope> current = new ThreadLocal<>();
+
+	public static Optional<TryScope> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	public static <T> T runIn(TryScope tryScope, Supplier<T> code) {
+		TryScope previous = current.get();
+		current.set(tryScope);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	// Values can be null, therefore a plain map is used
+	private final Map<ScopedStore<?>, Object> values = new IdentityHashMap<>();
+
+	synchronized <T> T get(ScopedStore<T> store, Supplier<T> initializer) {
+		if (!values.containsKey(store)) {
+			values.put(store, initializer.get());
+		}
+		//noinspection unchecked
+		return (T) values.get(store);
+	}
+
+	synchronized <T> void update(ScopedStore<T> store, Function<T, T> updater, Supplier<T> initializer) {
+		values.put(store, updater.apply(get(store, initializer)));
+	}
+
+	synchronized <T> void reset(ScopedStore<T> store) {
+		if (!values.containsKey(store)) {
+			return;
+		}
+		//noinspection unchecked
+		T value = (T) values.remove(store);
+		store.runOnCloseCallbacks(value);
+	}
+
+	/**
+	 * Close and remove all values of this try scope. Can be called more than once.
+	 */
+	public synchronized void finish() {
+		for (ScopedStore<?> store : new ArrayList<>(values.keySet())) {
+			reset(store);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes all submitted tasks on a work stealing pool.
+ * A task is started as soon as all its predecessors have finished.
+ *
+ * <p>
+ * In contrast to {@linkplain ExecutionPipeline} the predecessor result handed to a task
+ * is the first non successful result of its predecessors - or a successful result if all of them succeeded -
+ * and not the result of the task that happened to be executed just before.
+ * </p>
+ *
+ * <p>
+ * The given {@linkplain PropertyExecutionListener} is called from several threads and must therefore be thread safe.
+ * </p>
+ */
+public class ConcurrentExecutionPipeline implements Pipeline {
+
+	private final List<ExecutionTask> tasks = new ArrayList<>();
+	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
+	private final Set<UniqueId> prioritizedOwners = new LinkedHashSet<>();
+	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
+
+	public ConcurrentExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1");
+		}
+		this.executionListener = executionListener;
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public synchronized void submit(ExecutionTask task, ExecutionTask... predecessors) {
+		if (taskPredecessors.containsKey(task))
+			throw new DuplicateExecutionTaskException(task);
+		taskPredecessors.put(task, predecessors);
+		tasks.add(task);
+	}
+
+	/**
+	 * Tasks owned by {@code ownerId} are started before other tasks that are ready at the same time.
+	 */
+	public synchronized void executeFirst(UniqueId ownerId) {
+		prioritizedOwners.add(ownerId);
+	}
+
+	public void runToTermination() {
+		List<TaskNode> nodes = createNodes();
+		if (nodes.isEmpty()) {
+			return;
+		}
+
+		CountDownLatch allFinished = new CountDownLatch(nodes.size());
+		AtomicReference<Throwable> unexpectedThrowable = new AtomicReference<>();
+		ForkJoinPool pool = new ForkJoinPool(parallelism, new WorkerThreadFactory(), null, true);
+		try {
+			TaskScheduler scheduler = new TaskScheduler(pool, allFinished, unexpectedThrowable);
+			scheduler.schedule(nodes.stream().filter(TaskNode::isReady).collect(Collectors.toList()));
+			awaitTermination(allFinished, unexpectedThrowable);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		Throwable throwable = unexpectedThrowable.get();
+		if (throwable != null) {
+			JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+
+	private void awaitTermination(CountDownLatch allFinished, AtomicReference<Throwable> unexpectedThrowable) {
+		try {
+			while (!allFinished.await(100, TimeUnit.MILLISECONDS)) {
+				if (unexpectedThrowable.get() != null) {
+					return;
+				}
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			unexpectedThrowable.compareAndSet(null, interruptedException);
+		}
+	}
+
+	private synchronized List<TaskNode> createNodes() {
+		Map<ExecutionTask, TaskNode> nodes = new IdentityHashMap<>();
+		for (ExecutionTask task : tasks) {
+			nodes.put(task, new TaskNode(task, isPrioritized(task.ownerId())));
+		}
+		for (ExecutionTask task : tasks) {
+			TaskNode node = nodes.get(task);
+			for (ExecutionTask predecessor : taskPredecessors.get(task)) {
+				TaskNode predecessorNode = nodes.get(predecessor);
+				if (predecessorNode == null)
+					throw new PredecessorNotSubmittedException(task, predecessor);
+				node.addPredecessor(predecessorNode);
+			}
+		}
+		propagatePriorityToPredecessors(nodes.values());
+		return tasks.stream().map(nodes::get).collect(Collectors.toList());
+	}
+
+	private void propagatePriorityToPredecessors(Collection<TaskNode> nodes) {
+		Deque<TaskNode> toPropagate = nodes.stream().filter(node -> node.prioritized).collect(Collectors.toCollection(ArrayDeque::new));
+		while (!toPropagate.isEmpty()) {
+			TaskNode node = toPropagate.pop();
+			for (TaskNode predecessor : node.predecessors) {
+				if (!predecessor.prioritized) {
+					predecessor.prioritized = true;
+					toPropagate.push(predecessor);
+				}
+			}
+		}
+	}
+
+	private boolean isPrioritized(UniqueId taskId) {
+		return prioritizedOwners.stream().anyMatch(ownerId -> isSameOrOwner(ownerId, taskId));
+	}
+
+	private boolean isSameOrOwner(UniqueId ownerId, UniqueId taskId) {
+		List<UniqueId.Segment> ownerSegments = ownerId.getSegments();
+		List<UniqueId.Segment> taskSegments = taskId.getSegments();
+		if (ownerSegments.size() > taskSegments.size())
+			return false;
+		for (int i = 0; i < ownerSegments.size(); i++) {
+			if (!ownerSegments.get(i).equals(taskSegments.get(i)))
+				return false;
+		}
+		return true;
+	}
+
+	private class TaskScheduler {
+		private final ForkJoinPool pool;
+		private final CountDownLatch allFinished;
+		private final AtomicReference<Throwable> unexpectedThrowable;
+
+		private TaskScheduler(ForkJoinPool pool, CountDownLatch allFinished, AtomicReference<Throwable> unexpectedThrowable) {
+			this.pool = pool;
+			this.allFinished = allFinished;
+			this.unexpectedThrowable = unexpectedThrowable;
+		}
+
+		private void schedule(List<TaskNode> readyNodes) {
+			// Pool runs in async mode, i.e. tasks are taken in order of submission
+			readyNodes.stream().filter(node -> node.prioritized).forEach(node -> pool.execute(() -> run(node)));
+			readyNodes.stream().filter(node -> !node.prioritized).forEach(node -> pool.execute(() -> run(node)));
+		}
+
+		private void run(TaskNode node) {
+			try {
+				node.result = node.task.execute(executionListener, node.predecessorResult());
+			} catch (Throwable throwable) {
+				unexpectedThrowable.compareAndSet(null, throwable);
+				node.result = TaskExecutionResult.failure(throwable);
+			}
+			allFinished.countDown();
+			schedule(node.finish());
+		}
+	}
+
+	private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger(0);
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+			ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {};
+			thread.setName("jqwik-execution-worker-" + threadCount.incrementAndGet());
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}
+	}
+
+	private static class TaskNode {
+		private final ExecutionTask task;
+		private final List<TaskNode> predecessors = new ArrayList<>();
+		private final List<TaskNode> successors = new ArrayList<>();
+		private final AtomicInteger unfinishedPredecessors = new AtomicInteger(0);
+		private volatile boolean prioritized;
+		private volatile TaskExecutionResult result = null;
+
+		private TaskNode(ExecutionTask task, boolean prioritized) {
+			this.task = task;
+			this.prioritized = prioritized;
+		}
+
+		private void addPredecessor(TaskNode predecessor) {
+			predecessors.add(predecessor);
+			predecessor.successors.add(this);
+			unfinishedPredecessors.incrementAndGet();
+		}
+
+		private boolean isReady() {
+			return unfinishedPredecessors.get() == 0;
+		}
+
+		private TaskExecutionResult predecessorResult() {
+			return predecessors.stream()
+							   .map(predecessor -> predecessor.result)
+							   .filter(predecessorResult -> !predecessorResult.successful())
+							   .findFirst()
+							   .orElse(TaskExecutionResult.success());
+		}
+
+		/**
+		 * @return successors that have become ready to run
+		 */
+		private List<TaskNode> finish() {
+			return successors.stream()
+							 .filter(successor -> successor.unfinishedPredecessors.decrementAndGet() == 0)
+							 .collect(Collectors.toList());
+		}
+	}
+}
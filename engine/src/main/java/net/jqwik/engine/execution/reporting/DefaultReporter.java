@@ -31,14 +31,15 @@ public class DefaultReporter implements Reporter {
 	private String buildReport(Object object) {
 		StringBuilder stringBuilder = new StringBuilder();
 
-		ValueReport sampleReport = ValueReport.of(object);
+		ReportingLimits limits = ReportingLimits.of(descriptor);
+		ValueReport sampleReport = ValueReport.of(object, limits);
 		int lengthOfTimestamp = 35;
 		if (sampleReport.singleLineLength() < SampleReporter.MAX_LINE_LENGTH - lengthOfTimestamp) {
 			String line = sampleReport.singleLineReport();
 			stringBuilder.append(line);
 		} else {
 			stringBuilder.append(String.format("%n"));
-			LineReporter lineReporter = new BuilderBasedLineReporter(stringBuilder, 0);
+			LineReporter lineReporter = new LimitedLineReporter(new BuilderBasedLineReporter(stringBuilder, 0), limits.maxSize());
 			sampleReport.report(lineReporter, 1, "");
 		}
 		removeTrailingNewLine(stringBuilder);
@@ -51,7 +52,7 @@ public class DefaultReporter implements Reporter {
 	}
 
 	private String buildReports(Map<String, Object> reports) {
-		SampleReporter sampleReporter = new SampleReporter(null, reports);
+		SampleReporter sampleReporter = new SampleReporter(null, reports, ReportingLimits.of(descriptor));
 		StringBuilder stringBuilder = new StringBuilder();
 		LineReporter lineReporter = new BuilderBasedLineReporter(stringBuilder, 0);
 		sampleReporter.reportTo(lineReporter);
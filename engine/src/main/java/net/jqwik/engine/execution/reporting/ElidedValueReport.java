@@ -0,0 +1,30 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+/**
+ * Stands in for the part of a value that is not reported due to {@linkplain ReportingLimits}.
+ */
+class ElidedValueReport extends ValueReport {
+
+	static ElidedValueReport more(int count) {
+		return new ElidedValueReport(Optional.empty(), String.format("...<%s more>", count));
+	}
+
+	private final String elision;
+
+	ElidedValueReport(Optional<String> label, String elision) {
+		super(label);
+		this.elision = elision;
+	}
+
+	@Override
+	public String singleLineReport() {
+		return label.orElse("") + elision;
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
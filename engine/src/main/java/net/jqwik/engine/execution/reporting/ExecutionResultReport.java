@@ -35,7 +35,8 @@ public class ExecutionResultReport {
 				methodDescriptor.getConfiguration().getAfterFailureMode(),
 				methodDescriptor.getConfiguration().getFixedSeedMode(),
 				methodDescriptor.getTargetMethod(),
-				executionResult
+				executionResult,
+				ReportingLimits.of(methodDescriptor)
 		);
 	}
 
@@ -43,13 +44,14 @@ public class ExecutionResultReport {
 			AfterFailureMode afterFailureMode,
 			FixedSeedMode fixedSeedMode,
 			Method propertyMethod,
-			ExtendedPropertyExecutionResult executionResult
+			ExtendedPropertyExecutionResult executionResult,
+			ReportingLimits limits
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
 		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode);
-		appendSamples(reportLines, propertyMethod, executionResult);
+		appendSamples(reportLines, propertyMethod, executionResult, limits);
 
 		return reportLines.toString();
 	}
@@ -57,15 +59,16 @@ public class ExecutionResultReport {
 	private static void appendSamples(
 		StringBuilder reportLines,
 		Method propertyMethod,
-		PropertyExecutionResult executionResult
+		PropertyExecutionResult executionResult,
+		ReportingLimits limits
 	) {
 		executionResult.shrunkSample().ifPresent(shrunkSample -> {
 			List<Object> parameters = shrunkSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = shrunkSample.parameters();
 			if (!parameters.isEmpty()) {
 				String shrunkSampleHeadline = String.format("%s (%s steps)", SHRUNK_SAMPLE_HEADLINE, shrunkSample.countShrinkingSteps());
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, shrunkSampleHeadline, limits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, limits);
 			}
 		});
 
@@ -74,8 +77,8 @@ public class ExecutionResultReport {
 			List<Object> parameters = originalSample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 			List<Object> parametersAfterRun = originalSample.parameters();
 			if (!parameters.isEmpty()) {
-				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline);
-				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun);
+				SampleReporter.reportSample(reportLines, propertyMethod, parameters, originalSampleHeadline, limits);
+				reportParameterChanges(reportLines, propertyMethod, parameters, parametersAfterRun, limits);
 				if (executionResult.shrunkSample().isPresent()) {
 					originalSample.falsifyingError().ifPresent(error -> {
 						appendOriginalError(reportLines, error);
@@ -89,11 +92,12 @@ public class ExecutionResultReport {
 		StringBuilder reportLines,
 		Method propertyMethod,
 		List<Object> parameters,
-		List<Object> parametersAfterRun
+		List<Object> parametersAfterRun,
+		ReportingLimits limits
 	) {
 		if (ParameterChangesDetector.haveParametersChanged(parameters, parametersAfterRun)) {
 			String changesSampleHeadline = "After Execution";
-			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1);
+			SampleReporter.reportSample(reportLines, propertyMethod, parametersAfterRun, changesSampleHeadline, 1, limits);
 		}
 	}
 
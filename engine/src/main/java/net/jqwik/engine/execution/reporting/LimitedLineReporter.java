@@ -0,0 +1,35 @@
+package net.jqwik.engine.execution.reporting;
+
+/**
+ * Passes lines on until the report would exceed a maximum number of characters.
+ * The line that exceeds the maximum is cut and marked as truncated, all lines after that are dropped.
+ */
+class LimitedLineReporter implements LineReporter {
+
+	private final LineReporter lineReporter;
+	private final int maxSize;
+
+	private long size = 0;
+	private boolean truncated = false;
+
+	LimitedLineReporter(LineReporter lineReporter, int maxSize) {
+		this.lineReporter = lineReporter;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public void addLine(int indentLevel, String line) {
+		if (truncated) {
+			return;
+		}
+		long remaining = maxSize - size - indentLevel * 2;
+		size += indentLevel * 2 + line.length() + 1;
+		if (size > maxSize) {
+			truncated = true;
+			String fittingPart = line.substring(0, (int) Math.max(0, Math.min(remaining, line.length())));
+			lineReporter.addLine(indentLevel, String.format("%s...<report truncated after %s characters>", fittingPart, maxSize));
+			return;
+		}
+		lineReporter.addLine(indentLevel, line);
+	}
+}
@@ -8,10 +8,16 @@ class MapValueReport extends ValueReport {
 	private static final int MAX_LINE_LENGTH = 100;
 
 	private final List<Map.Entry<ValueReport, ValueReport>> reportEntries;
+	private final int moreEntries;
 
-	MapValueReport(final Optional<String> label, final List<Map.Entry<ValueReport, ValueReport>> reportEntries) {
+	MapValueReport(
+		final Optional<String> label,
+		final List<Map.Entry<ValueReport, ValueReport>> reportEntries,
+		final int moreEntries
+	) {
 		super(label);
 		this.reportEntries = reportEntries;
+		this.moreEntries = moreEntries;
 	}
 
 	@Override
@@ -20,7 +26,11 @@ class MapValueReport extends ValueReport {
 	}
 
 	private String singleLineEntries() {
-		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
+		Stream<String> entries = reportEntries.stream().map(this::singleLineEntry);
+		if (moreEntries > 0) {
+			entries = Stream.concat(entries, Stream.of(ElidedValueReport.more(moreEntries).singleLineReport()));
+		}
+		return entries.collect(Collectors.joining(", "));
 	}
 
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
@@ -36,7 +46,7 @@ class MapValueReport extends ValueReport {
 
 	private void reportEntries(LineReporter lineReporter, int indentLevel) {
 		for (int i = 0; i < reportEntries.size(); i++) {
-			boolean isNotLast = i < reportEntries.size() - 1;
+			boolean isNotLast = i < reportEntries.size() - 1 || moreEntries > 0;
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
@@ -47,5 +57,8 @@ class MapValueReport extends ValueReport {
 				reportEntry.getValue().report(lineReporter, indentLevel + 1, optionalComma);
 			}
 		}
+		if (moreEntries > 0) {
+			ElidedValueReport.more(moreEntries).report(lineReporter, indentLevel, "");
+		}
 	}
 }
@@ -8,13 +8,27 @@ class ObjectValueReport extends ValueReport {
 
 	private List<String> lines;
 
-	ObjectValueReport(Optional<String> header, Object value) {
+	ObjectValueReport(Optional<String> header, Object value, int maxLength) {
 		super(header);
-		this.lines = toStringLines(value);
+		this.lines = toStringLines(value, maxLength);
 	}
 
-	private List<String> toStringLines(Object value) {
-		String s = JqwikStringSupport.displayString(value);
+	// Strings are cut before they are quoted so that huge strings are not copied.
+	// Other values are cut after calling their toString() method.
+	private List<String> toStringLines(Object value, int maxLength) {
+		String s;
+		int fullLength;
+		if (value instanceof String && ((String) value).length() > maxLength) {
+			String prefix = ((String) value).substring(0, maxLength);
+			s = JqwikStringSupport.displayString(prefix);
+			fullLength = ((String) value).length() + (s.length() - prefix.length());
+		} else {
+			s = JqwikStringSupport.displayString(value);
+			fullLength = s.length();
+		}
+		if (fullLength > maxLength) {
+			s = String.format("%s...<%s more characters>", s.substring(0, maxLength), fullLength - maxLength);
+		}
 		return JqwikStringSupport.toLines(s);
 	}
 
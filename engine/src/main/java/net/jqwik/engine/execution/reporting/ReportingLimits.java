@@ -0,0 +1,90 @@
+package net.jqwik.engine.execution.reporting;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Bounds the reports of sample values so that reporting huge samples
+ * - e.g. lists with 100k elements - takes neither much time nor much memory.
+ * A limit of 0 or less switches that limit off.
+ *
+ * <p>
+ * The limits are configured per engine run and found through the engine descriptor
+ * so that nested engine runs can use limits of their own.
+ * </p>
+ */
+public class ReportingLimits {
+
+	public static final int DEFAULT_MAX_DEPTH = 20;
+	public static final int DEFAULT_MAX_WIDTH = 1000;
+	public static final int DEFAULT_MAX_SIZE = 100_000;
+
+	public static final ReportingLimits DEFAULT = new ReportingLimits(DEFAULT_MAX_DEPTH, DEFAULT_MAX_WIDTH, DEFAULT_MAX_SIZE);
+
+	/**
+	 * @return the limits of the engine run that the current test descriptor belongs to
+	 */
+	public static ReportingLimits current() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return DEFAULT;
+		}
+		return of(CurrentTestDescriptor.get());
+	}
+
+	/**
+	 * @return the limits of the engine run that {@code descriptor} belongs to
+	 */
+	public static ReportingLimits of(TestDescriptor descriptor) {
+		TestDescriptor root = descriptor;
+		while (root.getParent().isPresent()) {
+			root = root.getParent().get();
+		}
+		if (!(root instanceof JqwikEngineDescriptor)) {
+			return DEFAULT;
+		}
+		JqwikConfiguration configuration = ((JqwikEngineDescriptor) root).getConfiguration();
+		if (configuration == null || configuration.reportingLimits() == null) {
+			return DEFAULT;
+		}
+		return configuration.reportingLimits();
+	}
+
+	private final int maxDepth;
+	private final int maxWidth;
+	private final int maxSize;
+
+	/**
+	 * @param maxDepth maximum nesting of collections, maps and tuples within a value
+	 * @param maxWidth maximum number of elements or entries reported for a single collection or map
+	 * @param maxSize  maximum number of characters of a report
+	 */
+	public ReportingLimits(int maxDepth, int maxWidth, int maxSize) {
+		this.maxDepth = noLimitIfNotPositive(maxDepth);
+		this.maxWidth = noLimitIfNotPositive(maxWidth);
+		this.maxSize = noLimitIfNotPositive(maxSize);
+	}
+
+	private static int noLimitIfNotPositive(int limit) {
+		return limit > 0 ? limit : Integer.MAX_VALUE;
+	}
+
+	public int maxDepth() {
+		return maxDepth;
+	}
+
+	public int maxWidth() {
+		return maxWidth;
+	}
+
+	public int maxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ReportingLimits{maxDepth=%s, maxWidth=%s, maxSize=%s}", maxDepth, maxWidth, maxSize);
+	}
+}
@@ -12,9 +12,10 @@ public class SampleReporter {
 		StringBuilder reportLines,
 		Method propertyMethod,
 		List<Object> sample,
-		String headline
+		String headline,
+		ReportingLimits limits
 	) {
-		reportSample(reportLines, propertyMethod, sample, headline, 0);
+		reportSample(reportLines, propertyMethod, sample, headline, 0, limits);
 	}
 
 	static void reportSample(
@@ -22,10 +23,11 @@ public class SampleReporter {
 		Method propertyMethod,
 		List<Object> sample,
 		String headline,
-		int indentLevel
+		int indentLevel,
+		ReportingLimits limits
 	) {
 		Map<String, Object> reports = createSampleReports(propertyMethod, sample);
-		SampleReporter sampleReporter = new SampleReporter(headline, reports);
+		SampleReporter sampleReporter = new SampleReporter(headline, reports, limits);
 		LineReporter lineReporter = new BuilderBasedLineReporter(reportLines, indentLevel);
 		sampleReporter.reportTo(lineReporter);
 	}
@@ -55,23 +57,30 @@ public class SampleReporter {
 
 	private final String headline;
 	private final Map<String, Object> reports;
+	private final ReportingLimits limits;
 
 	public SampleReporter(String headline, Map<String, Object> reports) {
+		this(headline, reports, ReportingLimits.current());
+	}
+
+	SampleReporter(String headline, Map<String, Object> reports, ReportingLimits limits) {
 		this.reports = reports;
 		this.headline = headline;
+		this.limits = limits;
 	}
 
 	void reportTo(LineReporter lineReporter) {
-		lineReporter.addLine(0, "");
-		reportHeadline(lineReporter);
-		reportParameters(lineReporter);
+		LineReporter limitedLineReporter = new LimitedLineReporter(lineReporter, limits.maxSize());
+		limitedLineReporter.addLine(0, "");
+		reportHeadline(limitedLineReporter);
+		reportParameters(limitedLineReporter);
 	}
 
 	private void reportParameters(LineReporter lineReporter) {
 		for (Map.Entry<String, Object> nameAndValue : reports.entrySet()) {
 			String parameterName = nameAndValue.getKey();
 			Object parameterValue = nameAndValue.getValue();
-			ValueReport sampleReport = ValueReport.of(parameterValue);
+			ValueReport sampleReport = ValueReport.of(parameterValue, limits);
 			if (sampleReport.singleLineLength() + parameterName.length() < MAX_LINE_LENGTH) {
 				String line = String.format("%s: %s", parameterName, sampleReport.singleLineReport());
 				lineReporter.addLine(1, line);
@@ -12,13 +12,21 @@ public abstract class ValueReport {
 	}
 
 	public static ValueReport of(Object value) {
+		return of(value, ReportingLimits.current());
+	}
+
+	static ValueReport of(Object value, ReportingLimits limits) {
 		ReportingFormatFinder formatFinder = reportingFormatFinder();
-		return of(value, formatFinder);
+		return of(value, formatFinder, limits);
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
+		return of(value, formatFinder, ReportingLimits.current());
+	}
+
+	static ValueReport of(Object value, ReportingFormatFinder formatFinder, ReportingLimits limits) {
 		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
+		return of(value, formatFinder, new ReportBudget(limits), visited, 0);
 	}
 
 	private static Set<Object> visitedSet(Set<Object> from) {
@@ -27,40 +35,59 @@ public abstract class ValueReport {
 		return objects;
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
+	private static ValueReport of(
+		Object value,
+		ReportingFormatFinder formatFinder,
+		ReportBudget budget,
+		Set<Object> visited,
+		int depth
+	) {
 		SampleReportingFormat format = formatFinder.find(value);
 		if (visited.contains(value)) {
 			return new CircularDependencyReport(format.label(value), value);
 		} else {
 			visited.add(value);
 		}
+		budget.spend();
+		Optional<String> label = format.label(value);
 		Object reportedValue = format.report(value);
+		boolean tooDeep = depth >= budget.limits.maxDepth();
 		if (reportedValue instanceof Collection) {
+			if (tooDeep) {
+				return new ElidedValueReport(label, "[...]");
+			}
 			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+			return createCollectionReport(label, (Collection<Object>) reportedValue, formatFinder, budget, visited, depth + 1);
 		}
 		if (reportedValue instanceof Map) {
+			if (tooDeep) {
+				return new ElidedValueReport(label, "{...}");
+			}
 			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+			return createMapReport(label, (Map<Object, Object>) reportedValue, formatFinder, budget, visited, depth + 1);
 		}
 		if (reportedValue instanceof Tuple) {
-			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+			if (tooDeep) {
+				return new ElidedValueReport(label, "(...)");
+			}
+			return createTupleReport(label, (Tuple) reportedValue, formatFinder, budget, visited, depth + 1);
 		}
 		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
+		return new ObjectValueReport(label, reportedValue, budget.limits.maxSize());
 	}
 
 	private static ValueReport createTupleReport(
 		Optional<String> label,
 		Tuple tuple,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportBudget budget,
+		final Set<Object> visited,
+		int depth
 	) {
 		List<ValueReport> tupleReports =
 			tuple.items()
 				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
+				 .map(value -> of(value, formatFinder, budget, visitedSet(visited), depth))
 				 .collect(Collectors.toList());
 
 		return new TupleValueReport(label, tupleReports);
@@ -70,46 +97,54 @@ public abstract class ValueReport {
 		final Optional<String> label,
 		final Map<Object, Object> map,
 		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final ReportBudget budget,
+		final Set<Object> visited,
+		final int depth
 	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
+		List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+		Iterator<Map.Entry<Object, Object>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext() && budget.allowsMore(reportEntries.size())) {
+			Map.Entry<Object, Object> entry = iterator.next();
+			ValueReport keyReport = of(entry.getKey(), formatFinder, budget, visitedSet(visited), depth);
+			ValueReport valueReport = of(entry.getValue(), formatFinder, budget, visitedSet(visited), depth);
+			reportEntries.add(new Map.Entry<ValueReport, ValueReport>() {
+				@Override
+				public ValueReport getKey() {
+					return keyReport;
+				}
+
+				@Override
+				public ValueReport getValue() {
+					return valueReport;
+				}
+
+				@Override
+				public ValueReport setValue(ValueReport value) {
+					throw new UnsupportedOperationException();
+				}
+			});
+		}
+		int moreEntries = map.size() - reportEntries.size();
+		return new MapValueReport(label, reportEntries, moreEntries);
 	}
 
 	private static ValueReport createCollectionReport(
 		Optional<String> label,
 		Collection<Object> collection,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		ReportBudget budget,
+		final Set<Object> visited,
+		int depth
 	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
+		List<ValueReport> reportCollection = new ArrayList<>();
+		Iterator<Object> iterator = collection.iterator();
+		while (iterator.hasNext() && budget.allowsMore(reportCollection.size())) {
+			reportCollection.add(of(iterator.next(), formatFinder, budget, visitedSet(visited), depth));
+		}
+		int moreElements = collection.size() - reportCollection.size();
+		if (moreElements > 0) {
+			reportCollection.add(ElidedValueReport.more(moreElements));
+		}
 		return new CollectionValueReport(label, reportCollection);
 	}
 
@@ -128,6 +163,28 @@ public abstract class ValueReport {
 						  .findFirst().orElse(new NullReportingFormat());
 	}
 
+	/**
+	 * Each reported value takes at least one character. Reports of more values than
+	 * the maximum report size allows would be truncated anyway and need not be created.
+	 */
+	private static class ReportBudget {
+		private final ReportingLimits limits;
+		private int remainingValues;
+
+		private ReportBudget(ReportingLimits limits) {
+			this.limits = limits;
+			this.remainingValues = limits.maxSize();
+		}
+
+		private void spend() {
+			remainingValues--;
+		}
+
+		private boolean allowsMore(int reportedElements) {
+			return remainingValues > 0 && reportedElements < limits.maxWidth();
+		}
+	}
+
 	final Optional<String> label;
 
 	protected ValueReport(Optional<String> label) {
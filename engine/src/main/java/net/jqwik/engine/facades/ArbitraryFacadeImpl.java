@@ -206,7 +206,7 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 		return new ArbitraryDelegator<T>(self) {
 			@Override
 			public RandomGenerator<T> generator(int genSize, boolean withEdgeCases) {
-				return Memoize.memoizedGenerator(self, genSize, withEdgeCases, () -> self.generator(genSize));
+				return Memoize.memoizedGenerator(this, genSize, withEdgeCases, () -> self.generator(genSize));
 			}
 
 			@Override
@@ -1,16 +1,21 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 
+/**
+ * Generators are only memoized per property because they can have state -
+ * e.g. the number of values generated so far - that must not leak into other properties.
+ */
 class Memoize {
 
 	private static Store<Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>>> generatorStore() {
-		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, HashMap::new);
+		return Store.getOrCreate(Memoize.class, Lifespan.PROPERTY, ConcurrentHashMap::new);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -21,30 +26,17 @@ class Memoize {
 			Supplier<RandomGenerator<U>> generatorSupplier
 	) {
 		Tuple3<Arbitrary<?>, Integer, Boolean> key = Tuple.of(arbitrary, genSize, withEdgeCases);
+		Map<Tuple3<Arbitrary<?>, Integer, Boolean>, RandomGenerator<?>> cache = generatorStore().get();
 
-		RandomGenerator<?> generator = computeIfAbsent(
-				generatorStore().get(),
-				key,
-				ignore -> generatorSupplier.get()
-		);
-		return (RandomGenerator<U>) generator;
-	}
-
-	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
-	private static <K, V> V computeIfAbsent(
-			Map<K, V> cache,
-			K key,
-			Function<? super K, ? extends V> mappingFunction
-	) {
-		V result = cache.get(key);
-
-		if (result == null) {
-			result = mappingFunction.apply(key);
-			cache.put(key, result);
+		RandomGenerator<?> generator = cache.get(key);
+		if (generator != null) {
+			return (RandomGenerator<U>) generator;
 		}
-
-		return result;
+		// Generator creation is done outside of the map since it can recursively
+		// create and memoize generators of other arbitraries
+		RandomGenerator<U> created = generatorSupplier.get();
+		RandomGenerator<?> existing = cache.putIfAbsent(key, created);
+		return existing != null ? (RandomGenerator<U>) existing : created;
 	}
 
 }
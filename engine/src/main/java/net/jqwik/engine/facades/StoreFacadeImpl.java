@@ -19,6 +19,12 @@ public class StoreFacadeImpl extends Store.StoreFacade {
 		return StoreRepository.getCurrent().create(scope, identifier, lifespan, initializer);
 	}
 
+	@Override
+	public <T> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initializer) {
+		TestDescriptor scope = CurrentTestDescriptor.get();
+		return StoreRepository.getCurrent().getOrCreate(scope, identifier, lifespan, initializer);
+	}
+
 	@Override
 	public <T> Store<T> get(Object identifier) {
 		TestDescriptor retriever = CurrentTestDescriptor.get();
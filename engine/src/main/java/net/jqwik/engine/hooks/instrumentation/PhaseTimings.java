@@ -0,0 +1,62 @@
+package net.jqwik.engine.hooks.instrumentation;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.InstrumentationHook.*;
+
+/**
+ * Collects the measurements of a single phase. Measurements can be added from several threads.
+ */
+class PhaseTimings {
+
+	private final Phase phase;
+
+	private long[] nanos = new long[64];
+	private int count = 0;
+	private long allocatedBytes = 0;
+	private int countAllocations = 0;
+
+	PhaseTimings(Phase phase) {
+		this.phase = phase;
+	}
+
+	Phase phase() {
+		return phase;
+	}
+
+	synchronized void add(long nanos, long allocatedBytes) {
+		if (count == this.nanos.length) {
+			this.nanos = Arrays.copyOf(this.nanos, count * 2);
+		}
+		this.nanos[count++] = nanos;
+		if (allocatedBytes >= 0) {
+			this.allocatedBytes += allocatedBytes;
+			countAllocations++;
+		}
+	}
+
+	synchronized int count() {
+		return count;
+	}
+
+	/**
+	 * @param percentile a value between 0 and 100
+	 * @return the nearest rank percentile of all measured nanos
+	 */
+	synchronized long percentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long[] sorted = Arrays.copyOf(nanos, count);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100 * count);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	synchronized OptionalLong averageAllocatedBytes() {
+		if (countAllocations == 0) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(allocatedBytes / countAllocations);
+	}
+}
@@ -0,0 +1,92 @@
+package net.jqwik.engine.hooks.instrumentation;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.hooks.*;
+
+/**
+ * Reports percentiles of all {@linkplain InstrumentationHook.Phase phases} for properties
+ * annotated with {@code @Report(Reporting.TIMINGS)}.
+ */
+public class TimingsReportingHook implements AroundPropertyHook, InstrumentationHook {
+
+	private static final Object TIMINGS_ID = Tuple.of(TimingsReportingHook.class, "timings");
+
+	private static final double[] PERCENTILES = {50, 90, 99, 100};
+
+	@Override
+	public boolean appliesTo(Optional<AnnotatedElement> element) {
+		return element.filter(e -> e instanceof Method)
+					  .flatMap(method -> AnnotationSupport.findAnnotation(method, Report.class))
+					  .map(report -> Reporting.TIMINGS.containedIn(report.value()))
+					  .orElse(false);
+	}
+
+	@Override
+	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
+		Store<Map<Phase, PhaseTimings>> timingsStore = Store.create(TIMINGS_ID, Lifespan.PROPERTY, TimingsReportingHook::createTimings);
+		PropertyExecutionResult executionResult = property.execute();
+		report(timingsStore.get(), context);
+		return executionResult;
+	}
+
+	private static Map<Phase, PhaseTimings> createTimings() {
+		Map<Phase, PhaseTimings> timings = new EnumMap<>(Phase.class);
+		for (Phase phase : Phase.values()) {
+			timings.put(phase, new PhaseTimings(phase));
+		}
+		return timings;
+	}
+
+	@Override
+	public void measured(PropertyLifecycleContext context, Phase phase, long nanos, long allocatedBytes) {
+		Store<Map<Phase, PhaseTimings>> timingsStore = Store.get(TIMINGS_ID);
+		timingsStore.get().get(phase).add(nanos, allocatedBytes);
+	}
+
+	@Override
+	public boolean measureAllocations() {
+		return true;
+	}
+
+	private void report(Map<Phase, PhaseTimings> timings, PropertyLifecycleContext context) {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(
+			"%n    %-18s %8s %12s %12s %12s %12s %16s",
+			"phase", "count", "p50 µs", "p90 µs", "p99 µs", "max µs", "avg alloc bytes"
+		));
+		for (PhaseTimings phaseTimings : timings.values()) {
+			if (phaseTimings.count() == 0) {
+				continue;
+			}
+			report.append(String.format("%n    %-18s %8d", phaseName(phaseTimings.phase()), phaseTimings.count()));
+			for (double percentile : PERCENTILES) {
+				report.append(String.format(" %12.1f", phaseTimings.percentile(percentile) / 1000.0));
+			}
+			OptionalLong averageAllocatedBytes = phaseTimings.averageAllocatedBytes();
+			String allocated = averageAllocatedBytes.isPresent() ? Long.toString(averageAllocatedBytes.getAsLong()) : "-";
+			report.append(String.format(" %16s", allocated));
+		}
+		String key = String.format("[%s] timings", context.extendedLabel());
+		context.reporter().publishValue(key, report.toString());
+	}
+
+	private String phaseName(Phase phase) {
+		return phase.name().toLowerCase().replace('_', ' ');
+	}
+
+	@Override
+	public PropagationMode propagateTo() {
+		return PropagationMode.ALL_DESCENDANTS;
+	}
+
+	@Override
+	public int aroundPropertyProximity() {
+		return Hooks.AroundProperty.TIMINGS_PROXIMITY;
+	}
+}
@@ -11,6 +11,9 @@ import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
 
+/**
+ * Collecting and evaluating statistics is synchronized because tries of a property can run concurrently.
+ */
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
@@ -25,7 +28,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -89,7 +92,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   .reduce(StatisticsEntryImpl.NULL, StatisticsEntryImpl::plus);
 	}
 
-	public int countAllCollects() {
+	public synchronized int countAllCollects() {
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
@@ -99,25 +102,25 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
 		}
 	}
 
-	public void checkCoverage() {
+	public synchronized void checkCoverage() {
 		for (Consumer<StatisticsCoverage> checker : coverageCheckers) {
 			StatisticsCoverage coverage = new StatisticsCoverageImpl();
 			checker.accept(coverage);
 		}
 	}
 
-	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+	public synchronized Map<List<Object>, Integer> getCounts() {
+		return new HashMap<>(counts);
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
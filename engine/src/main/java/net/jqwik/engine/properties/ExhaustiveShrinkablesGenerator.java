@@ -4,7 +4,9 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.support.*;
 
 public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator {
@@ -46,17 +48,136 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private final List<List<ExhaustiveGenerator<Object>>> generators;
 	private final long maxCount;
+	private final boolean indexed;
+	private final long endPosition;
+	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+
+	// The next index to compute for indexed generators, the number of generated parameter lists otherwise
+	private long position;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
+		this(generators, 0, Long.MAX_VALUE);
+	}
+
+	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators, long startPosition, long endPosition) {
+		this.generators = generators;
 		this.maxCount = generators
 							.stream()
 							.mapToLong(set -> set.stream().mapToLong(ExhaustiveGenerator::maxCount).sum())
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
+		this.indexed = generators.stream().allMatch(
+			list -> list.stream().allMatch(generator -> IndexedExhaustiveGenerator.isIndexed(generator))
+		);
+		this.endPosition = Math.min(endPosition, maxCount);
+		if (indexed) {
+			this.position = startPosition;
+			this.combinatorialIterator = indexedIterator();
+		} else {
+			this.position = 0;
+			this.combinatorialIterator = combine(generators);
+			while (position < startPosition && hasNext()) {
+				next();
+			}
+		}
+	}
+
+	/**
+	 * A generator for the positions {@code startPosition} (inclusive) to {@code endPosition} (exclusive)
+	 * of this generator's sequence. Slices can be used to partition the exhaustive space
+	 * or to continue generation where an earlier generator has stopped.
+	 *
+	 * <p>
+	 * If {@linkplain #isIndexed()} is false, the parameters before {@code startPosition}
+	 * have to be generated and skipped.
+	 * </p>
+	 */
+	public ExhaustiveShrinkablesGenerator slice(long startPosition, long endPosition) {
+		return new ExhaustiveShrinkablesGenerator(generators, startPosition, endPosition);
+	}
 
-		this.combinatorialIterator = combine(generators);
+	/**
+	 * Positions are indices into the space of all combinations if {@linkplain #isIndexed()} is true.
+	 * Some indices might have no parameters, e.g. because a value has been filtered out.
+	 * Otherwise positions count the generated parameter lists.
+	 */
+	public long position() {
+		return position;
+	}
+
+	/**
+	 * Indexed generators can compute the parameters at any index
+	 * without iterating through all combinations before.
+	 */
+	public boolean isIndexed() {
+		return indexed;
+	}
+
+	/**
+	 * Only call if {@linkplain #isIndexed()} is true.
+	 *
+	 * @return the parameters at {@code index} or {@linkplain Optional#empty()}
+	 * if at least one parameter has no value at this index
+	 */
+	public Optional<List<Shrinkable<Object>>> parametersAt(long index) {
+		List<Shrinkable<Object>> parameters = new ArrayList<>(generators.size());
+		long remainder = index;
+		for (int i = generators.size() - 1; i >= 0; i--) {
+			List<ExhaustiveGenerator<Object>> parameterGenerators = generators.get(i);
+			long count = parameterGenerators.stream().mapToLong(ExhaustiveGenerator::maxCount).sum();
+			Optional<Tuple1<Object>> value = concatenatedValueAt(parameterGenerators, remainder % count);
+			if (!value.isPresent()) {
+				return Optional.empty();
+			}
+			parameters.add(Shrinkable.unshrinkable(value.get().get1()));
+			remainder /= count;
+		}
+		Collections.reverse(parameters);
+		return Optional.of(parameters);
+	}
+
+	private Optional<Tuple1<Object>> concatenatedValueAt(List<ExhaustiveGenerator<Object>> parameterGenerators, long index) {
+		long indexInGenerator = index;
+		for (ExhaustiveGenerator<Object> generator : parameterGenerators) {
+			if (indexInGenerator < generator.maxCount()) {
+				return ((IndexedExhaustiveGenerator<Object>) generator).valueAt(indexInGenerator);
+			}
+			indexInGenerator -= generator.maxCount();
+		}
+		String message = String.format("Index %s is outside of exhaustive parameter space", index);
+		throw new IndexOutOfBoundsException(message);
+	}
+
+	private Iterator<List<Shrinkable<Object>>> indexedIterator() {
+		return new Iterator<List<Shrinkable<Object>>>() {
+			List<Shrinkable<Object>> lookAhead = null;
+
+			@Override
+			public boolean hasNext() {
+				while (lookAhead == null && position < endPosition) {
+					Optional<List<Shrinkable<Object>>> parameters = parametersAt(position);
+					if (parameters.isPresent()) {
+						lookAhead = parameters.get();
+					} else {
+						position++;
+					}
+				}
+				return lookAhead != null;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<Shrinkable<Object>> current = lookAhead;
+				lookAhead = null;
+				position++;
+				return current;
+			}
+		};
 	}
 
 	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
@@ -94,11 +215,21 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public boolean hasNext() {
+		if (!indexed && position >= endPosition) {
+			return false;
+		}
 		return combinatorialIterator.hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
+		if (indexed) {
+			return combinatorialIterator.next();
+		}
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		position++;
 		return combinatorialIterator.next();
 	}
 
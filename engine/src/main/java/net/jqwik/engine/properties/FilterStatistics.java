@@ -0,0 +1,188 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Collects how many of the values generated for each filter have been accepted
+ * while a property is being checked.
+ *
+ * <p>
+ * Statistics are bound to the thread that checks a property and are propagated to its
+ * {@linkplain TryWorkerPool worker threads}. Records can therefore be updated concurrently.
+ * Filters that generate values outside of {@linkplain #collectWhile(FilterStatistics, Supplier)}
+ * do not record anything. Properties only collect statistics if filters are reported or narrowing is switched on.
+ * </p>
+ *
+ * <p>
+ * Narrowing the sampled range of rarely accepting filters changes the generated values.
+ * It is therefore only done if switched on with {@code jqwik.filters.narrowing}.
+ * </p>
+ */
+public class FilterStatistics {
+
+	private static final ThreadLocal<FilterStatistics> current = new ThreadLocal<>();
+
+	public static <T> T collectWhile(FilterStatistics statistics, Supplier<T> code) {
+		FilterStatistics before = current.get();
+		current.set(statistics);
+		try {
+			return code.get();
+		} finally {
+			if (before == null) {
+				current.remove();
+			} else {
+				current.set(before);
+			}
+		}
+	}
+
+	/**
+	 * @return the statistics being collected in the current thread or {@code null}
+	 */
+	public static FilterStatistics current() {
+		return current.get();
+	}
+
+	/**
+	 * @return the record for {@code filter} or {@code null} if no statistics are being collected
+	 */
+	public static FilterRecord recordFor(Object filter) {
+		FilterStatistics statistics = current.get();
+		if (statistics == null) {
+			return null;
+		}
+		return statistics.recordOf(filter);
+	}
+
+	private final boolean narrowing;
+	private final Map<Object, FilterRecord> records = new LinkedHashMap<>();
+
+	public FilterStatistics() {
+		this(false);
+	}
+
+	public FilterStatistics(boolean narrowing) {
+		this.narrowing = narrowing;
+	}
+
+	/**
+	 * Creates the record on first use. Callers should keep the record instead of looking it up for each value.
+	 */
+	public synchronized FilterRecord recordOf(Object filter) {
+		return records.computeIfAbsent(filter, ignore -> new FilterRecord(filter.toString(), narrowing));
+	}
+
+	public synchronized List<FilterRecord> records() {
+		return new ArrayList<>(records.values());
+	}
+
+	public synchronized Map<String, Object> report() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		int index = 1;
+		for (FilterRecord record : records.values()) {
+			String key = String.format("%d: %s", index++, record.description());
+			report.put(key, record.summary());
+		}
+		return report;
+	}
+
+	public static class FilterRecord {
+
+		private final String description;
+		private final boolean narrowing;
+
+		private final AtomicInteger attempts = new AtomicInteger(0);
+		private final AtomicInteger accepted = new AtomicInteger(0);
+
+		// Filters over integral values also record the range of accepted values
+		private final AtomicInteger acceptedInRange = new AtomicInteger(0);
+		private final AtomicLong minAccepted = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicLong maxAccepted = new AtomicLong(Long.MIN_VALUE);
+
+		private volatile RandomGenerator<?> narrowedGenerator = null;
+
+		private FilterRecord(String description, boolean narrowing) {
+			this.description = description;
+			this.narrowing = narrowing;
+		}
+
+		public void attempted(boolean isAccepted) {
+			attempts.incrementAndGet();
+			if (isAccepted) {
+				accepted.incrementAndGet();
+			}
+		}
+
+		public void acceptedValue(long value) {
+			acceptedInRange.incrementAndGet();
+			minAccepted.accumulateAndGet(value, Math::min);
+			maxAccepted.accumulateAndGet(value, Math::max);
+		}
+
+		public void narrowedTo(RandomGenerator<?> narrowedGenerator) {
+			this.narrowedGenerator = narrowedGenerator;
+		}
+
+		public boolean isNarrowingAllowed() {
+			return narrowing;
+		}
+
+		public String description() {
+			return description;
+		}
+
+		public int attempts() {
+			return attempts.get();
+		}
+
+		public int accepted() {
+			return accepted.get();
+		}
+
+		public double acceptanceRate() {
+			int attempts = attempts();
+			return attempts == 0 ? 1.0 : (double) accepted() / attempts;
+		}
+
+		public int acceptedInRange() {
+			return acceptedInRange.get();
+		}
+
+		public long minAccepted() {
+			return minAccepted.get();
+		}
+
+		public long maxAccepted() {
+			return maxAccepted.get();
+		}
+
+		public boolean isNarrowed() {
+			return narrowedGenerator != null;
+		}
+
+		public RandomGenerator<?> narrowedGenerator() {
+			return narrowedGenerator;
+		}
+
+		public String summary() {
+			String summary = String.format(
+				"accepted %d of %d (%.2f%%)",
+				accepted(), attempts(), acceptanceRate() * 100
+			);
+			RandomGenerator<?> narrowedGenerator = this.narrowedGenerator;
+			if (narrowedGenerator != null) {
+				summary += String.format(", sampling narrowed to %s", narrowedGenerator);
+			}
+			return summary;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("FilterRecord[%s: %s]", description, summary());
+		}
+	}
+}
@@ -2,11 +2,13 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
@@ -21,6 +23,7 @@ public class GenericProperty {
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final PropertyInstrumentation instrumentation;
 
 	public GenericProperty(
 		String name,
@@ -28,16 +31,54 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, PropertyInstrumentation.NONE);
+	}
+
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		PropertyInstrumentation instrumentation
 	) {
 		this.name = name;
 		this.configuration = configuration;
 		this.parametersGenerator = parametersGenerator;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.instrumentation = instrumentation;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		// Collecting statistics costs time for each generated value and is therefore only done when needed
+		if (!configuration.filterNarrowing() && !Reporting.FILTERS.containedIn(reporting)) {
+			return checkTries(reporter, reporting);
+		}
+		FilterStatistics filterStatistics = new FilterStatistics(configuration.filterNarrowing());
+		PropertyCheckResult checkResult = FilterStatistics.collectWhile(filterStatistics, () -> checkTries(reporter, reporting));
+		reportFilters(filterStatistics, reporter, reporting);
+		return checkResult;
+	}
+
+	private PropertyCheckResult checkTries(Reporter reporter, Reporting[] reporting) {
+		int parallelism = configuration.triesParallelism();
+		if (parallelism > 1 && configuration.getTries() > 1) {
+			return checkInParallel(reporter, reporting, parallelism);
+		}
+		return checkSequentially(reporter, reporting);
+	}
+
+	private void reportFilters(FilterStatistics filterStatistics, Reporter reporter, Reporting[] reporting) {
+		if (Reporting.FILTERS.containedIn(reporting) && !filterStatistics.records().isEmpty()) {
+			reporter.publishReports("filters", filterStatistics.report());
+		}
+	}
+
+	private PropertyCheckResult checkSequentially(Reporter reporter, Reporting[] reporting) {
 		int maxTries = configuration.getTries();
+		TriesTimeBudget timeBudget = TriesTimeBudget.startingNow(configuration.getMaxDuration());
 		int countChecks = 0;
 		int countTries = 0;
 		boolean finishEarly = false;
@@ -45,13 +86,17 @@ public class GenericProperty {
 			if (finishEarly) {
 				break;
 			}
+			// At least one try is always started
+			if (countTries > 0 && timeBudget.isExceeded()) {
+				break;
+			}
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
 			countTries++;
 
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			List<Shrinkable<Object>> shrinkableParams = parametersGenerator.next(tryLifecycleContext);
+			List<Shrinkable<Object>> shrinkableParams = generateParameters(tryLifecycleContext);
 			List<Object> sample = extractParams(shrinkableParams);
 
 			try {
@@ -110,6 +155,140 @@ public class GenericProperty {
 				);
 			}
 		}
+		return finishedCheckResult(reporter, timeBudget, maxTries, countTries, countChecks);
+	}
+
+	/**
+	 * Samples are generated sequentially in this thread and in the same order as in {@linkplain #checkSequentially},
+	 * only the execution of tries is distributed over worker threads.
+	 * Each try gets its own source of randomness, split in the order of generation,
+	 * so that randomness used within a try does not depend on the worker thread it runs on.
+	 * Generation and execution of a try share their own {@linkplain TryScope} so that try stores
+	 * are as fresh as in sequential execution and are not reset by other tries.
+	 * Results are evaluated in the order of generation so that the first falsified sample - and thereby
+	 * the reported counts and the result of shrinking - is the same as without parallelism.
+	 */
+	private PropertyCheckResult checkInParallel(Reporter reporter, Reporting[] reporting, int parallelism) {
+		int maxTries = configuration.getTries();
+		int maxPendingTries = parallelism * 2;
+		TriesTimeBudget timeBudget = TriesTimeBudget.startingNow(configuration.getMaxDuration());
+		int countChecks = 0;
+		int countTries = 0;
+		int countSubmitted = 0;
+		boolean finishEarly = false;
+		Deque<SubmittedTry> pendingTries = new ArrayDeque<>();
+		List<SubmittedTry> cancelledTries = new ArrayList<>();
+		JqwikRandom triesRandom = SourceOfRandomness.forTries(configuration.getSeed(), configuration.randomAlgorithm());
+
+		try (TryWorkerPool workerPool = new TryWorkerPool(name, parallelism, triesRandom)) {
+			while (true) {
+				while (!finishEarly
+						   && countSubmitted < maxTries
+						   && pendingTries.size() < maxPendingTries
+						   && (countSubmitted == 0 || !timeBudget.isExceeded())
+						   && parametersGenerator.hasNext()) {
+					pendingTries.add(submitTry(workerPool, reporter, reporting));
+					countSubmitted++;
+				}
+				SubmittedTry nextTry = pendingTries.poll();
+				if (nextTry == null) {
+					break;
+				}
+				countTries++;
+				countChecks++;
+
+				TryExecutionResult tryExecutionResult;
+				try {
+					tryExecutionResult = workerPool.await(nextTry.result);
+				} catch (Throwable throwable) {
+					// Only not AssertionErrors and non Exceptions get here
+					JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+					cancelAll(pendingTries, cancelledTries);
+					workerPool.stopAll();
+					FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+						nextTry.sample,
+						nextTry.shrinkableParams,
+						Optional.of(throwable)
+					);
+					return PropertyCheckResult.failed(
+						configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+						configuration.getGenerationMode(),
+						configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+						falsifiedSample, null, throwable
+					);
+				}
+
+				switch (tryExecutionResult.status()) {
+					case SATISFIED:
+						if (tryExecutionResult.shouldPropertyFinishEarly()) {
+							finishEarly = true;
+							cancelAll(pendingTries, cancelledTries);
+						}
+						break;
+					case FALSIFIED:
+						cancelAll(pendingTries, cancelledTries);
+						workerPool.stopAll();
+						FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
+							nextTry.sample,
+							nextTry.shrinkableParams,
+							tryExecutionResult.throwable()
+						);
+						return shrinkAndCreateCheckResult(
+							reporter,
+							reporting,
+							countChecks,
+							countTries,
+							falsifiedSample,
+							nextTry.tryLifecycleContext.targetMethod()
+						);
+					case INVALID:
+						countChecks--;
+						break;
+					default:
+						String message = String.format("Unknown TryExecutionResult.status [%s]", tryExecutionResult.status().name());
+						throw new RuntimeException(message);
+				}
+			}
+		} finally {
+			// Workers have terminated here, so try scopes of cancelled tries are no longer in use
+			cancelledTries.forEach(cancelledTry -> cancelledTry.tryScope.finish());
+		}
+		return finishedCheckResult(reporter, timeBudget, maxTries, countTries, countChecks);
+	}
+
+	private SubmittedTry submitTry(TryWorkerPool workerPool, Reporter reporter, Reporting[] reporting) {
+		TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+		TryScope tryScope = new TryScope();
+		List<Shrinkable<Object>> shrinkableParams = TryScope.runIn(tryScope, () -> generateParameters(tryLifecycleContext));
+		List<Object> sample = extractParams(shrinkableParams);
+		// Reporting is done here to keep all interaction with the reporter in the property's thread
+		reportGenerated(tryLifecycleContext, sample, reporter, reporting);
+		Future<TryExecutionResult> result =
+			workerPool.submitTry(tryScope, () -> tryLifecycleExecutor.execute(tryLifecycleContext, sample));
+		return new SubmittedTry(tryLifecycleContext, tryScope, shrinkableParams, sample, result);
+	}
+
+	private List<Shrinkable<Object>> generateParameters(TryLifecycleContext tryLifecycleContext) {
+		return instrumentation.measure(
+			InstrumentationHook.Phase.GENERATION,
+			() -> parametersGenerator.next(tryLifecycleContext)
+		);
+	}
+
+	private void cancelAll(Deque<SubmittedTry> pendingTries, List<SubmittedTry> cancelledTries) {
+		pendingTries.forEach(submittedTry -> submittedTry.result.cancel(true));
+		cancelledTries.addAll(pendingTries);
+		pendingTries.clear();
+	}
+
+	private PropertyCheckResult finishedCheckResult(
+		Reporter reporter,
+		TriesTimeBudget timeBudget,
+		int maxTries,
+		int countTries,
+		int countChecks
+	) {
+		timeBudget.report(reporter, countTries);
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
 			return PropertyCheckResult.exhausted(
 				configuration.getStereotype(),
@@ -141,12 +320,21 @@ public class GenericProperty {
 		List<Object> sample,
 		Reporter reporter,
 		Reporting[] reporting
+	) {
+		reportGenerated(tryLifecycleContext, sample, reporter, reporting);
+		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+	}
+
+	private void reportGenerated(
+		TryLifecycleContext tryLifecycleContext,
+		List<Object> sample,
+		Reporter reporter,
+		Reporting[] reporting
 	) {
 		if (Reporting.GENERATED.containedIn(reporting)) {
 			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -181,11 +369,15 @@ public class GenericProperty {
 		//       This will probably require some major modification to shrinking / shrinking API.
 		//       Maybe introduce some decorator for ShrinkingSequence(s)
 
-		Consumer<FalsifiedSample> falsifiedSampleReporter = createFalsifiedSampleReporter(reporter, reporting);
+		Consumer<FalsifiedSample> falsifiedSampleReporter = instrumentation.measureSteps(
+			InstrumentationHook.Phase.SHRINKING_STEP,
+			createFalsifiedSampleReporter(reporter, reporting)
+		);
 		PropertyShrinker shrinker = new PropertyShrinker(
 			originalSample,
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
+			configuration.shrinkingParallelism(),
 			falsifiedSampleReporter,
 			targetMethod
 		);
@@ -208,4 +400,26 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	private static class SubmittedTry {
+		private final TryLifecycleContext tryLifecycleContext;
+		private final TryScope tryScope;
+		private final List<Shrinkable<Object>> shrinkableParams;
+		private final List<Object> sample;
+		private final Future<TryExecutionResult> result;
+
+		private SubmittedTry(
+			TryLifecycleContext tryLifecycleContext,
+			TryScope tryScope,
+			List<Shrinkable<Object>> shrinkableParams,
+			List<Object> sample,
+			Future<TryExecutionResult> result
+		) {
+			this.tryLifecycleContext = tryLifecycleContext;
+			this.tryScope = tryScope;
+			this.shrinkableParams = shrinkableParams;
+			this.sample = sample;
+			this.result = result;
+		}
+	}
+
 }
@@ -41,6 +41,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -76,7 +77,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -107,7 +109,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -135,6 +138,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -152,6 +156,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final Long exhaustiveCheckpoint;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -165,7 +170,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		Long exhaustiveCheckpoint
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -180,6 +186,26 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.exhaustiveCheckpoint = exhaustiveCheckpoint;
+	}
+
+	public PropertyCheckResult withExhaustiveCheckpoint(long checkpoint) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			randomSeed,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			checkpoint
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -239,7 +265,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					exhaustiveCheckpoint
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -255,7 +282,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					exhaustiveCheckpoint
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -304,6 +332,11 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
 	}
 
+	@Override
+	public Optional<Long> exhaustiveCheckpoint() {
+		return Optional.ofNullable(exhaustiveCheckpoint);
+	}
+
 	@Override
 	public String toString() {
 		String header = String.format("%s [%s]", stereotype, propertyName);
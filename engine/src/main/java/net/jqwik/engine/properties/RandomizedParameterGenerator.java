@@ -13,6 +13,9 @@ class RandomizedParameterGenerator {
 	private final int genSize;
 	private final boolean withEdgeCases;
 
+	// Generators are resolved only once per property and arbitrary
+	private final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = new HashMap<>();
+
 	RandomizedParameterGenerator(MethodParameter parameter, Set<Arbitrary<Object>> arbitraries, int genSize, boolean withEdgeCases) {
 		this.typeUsage = TypeUsageImpl.forParameter(parameter);
 		this.arbitraries = new ArrayList<>(arbitraries);
@@ -37,6 +40,11 @@ class RandomizedParameterGenerator {
 	}
 
 	private RandomGenerator<Object> getGenerator(Arbitrary<Object> arbitrary) {
-		return arbitrary.generator(genSize, withEdgeCases);
+		RandomGenerator<Object> generator = generators.get(arbitrary);
+		if (generator == null) {
+			generator = arbitrary.generator(genSize, withEdgeCases);
+			generators.put(arbitrary, generator);
+		}
+		return generator;
 	}
 }
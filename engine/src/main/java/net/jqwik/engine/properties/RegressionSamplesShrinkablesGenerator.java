@@ -0,0 +1,33 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Provides falsified samples of previous runs before random generation takes over.
+ * Samples that no longer fit the property's parameters - e.g. because its signature has changed - are skipped.
+ */
+public class RegressionSamplesShrinkablesGenerator implements ForAllParametersGenerator {
+
+	private final Iterator<List<Object>> samples;
+
+	public RegressionSamplesShrinkablesGenerator(List<MethodParameter> forAllParameters, List<List<Object>> samples) {
+		this.samples = samples.stream()
+							  .filter(sample -> SampleOnlyShrinkablesGenerator.isCompatible(forAllParameters, sample))
+							  .collect(Collectors.toList())
+							  .iterator();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return samples.hasNext();
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		return samples.next().stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+	}
+}
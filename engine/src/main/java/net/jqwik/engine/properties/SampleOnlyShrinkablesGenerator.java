@@ -35,16 +35,27 @@ public class SampleOnlyShrinkablesGenerator implements ForAllParametersGenerator
 	}
 
 	private void checkCompatibility(List<Object> sample) {
-		if (sample.size() != forAllParameters.size()) {
+		if (!isCompatible(forAllParameters, sample)) {
 			throw new IncompatibleDataException(createIncompatibilityMessage(sample));
 		}
+	}
+
+	static boolean isCompatible(List<MethodParameter> forAllParameters, List<Object> sample) {
+		if (sample.size() != forAllParameters.size()) {
+			return false;
+		}
 		for (int i = 0; i < sample.size(); i++) {
-			TypeUsage valueType = TypeUsage.of(sample.get(i).getClass());
+			Object value = sample.get(i);
+			if (value == null) {
+				continue;
+			}
+			TypeUsage valueType = TypeUsage.of(value.getClass());
 			TypeUsage parameterType = TypeUsageImpl.forParameter(forAllParameters.get(i));
 			if (!valueType.canBeAssignedTo(parameterType)) {
-				throw new IncompatibleDataException(createIncompatibilityMessage(sample));
+				return false;
 			}
 		}
+		return true;
 	}
 
 	private String createIncompatibilityMessage(List<Object> sample) {
@@ -0,0 +1,51 @@
+package net.jqwik.engine.properties;
+
+import java.time.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Tracks the wall-clock time spent on tries of a property with a {@linkplain Property#maxDuration()}.
+ */
+class TriesTimeBudget {
+
+	static final TriesTimeBudget UNLIMITED = new TriesTimeBudget(null, 0L);
+
+	static TriesTimeBudget startingNow(Optional<Duration> maxDuration) {
+		return maxDuration.map(duration -> new TriesTimeBudget(duration, System.nanoTime())).orElse(UNLIMITED);
+	}
+
+	private final Duration maxDuration;
+	private final long startNanos;
+
+	private TriesTimeBudget(Duration maxDuration, long startNanos) {
+		this.maxDuration = maxDuration;
+		this.startNanos = startNanos;
+	}
+
+	boolean isExceeded() {
+		if (maxDuration == null) {
+			return false;
+		}
+		return elapsedNanos() >= maxDuration.toNanos();
+	}
+
+	void report(Reporter reporter, int countTries) {
+		if (maxDuration == null) {
+			return;
+		}
+		long elapsedNanos = elapsedNanos();
+		double triesPerSecond = elapsedNanos == 0 ? 0.0 : countTries * 1_000_000_000.0 / elapsedNanos;
+		Map<String, Object> reports = new LinkedHashMap<>();
+		reports.put("max-duration", maxDuration);
+		reports.put("elapsed", Duration.ofNanos(elapsedNanos));
+		reports.put("tries", countTries);
+		reports.put("tries-per-second", String.format(Locale.ROOT, "%.1f", triesPerSecond));
+		reporter.publishReports("time budget", reports);
+	}
+
+	private long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+}
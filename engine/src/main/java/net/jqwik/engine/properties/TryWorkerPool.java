@@ -0,0 +1,136 @@
+package net.jqwik.engine.properties;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs tries of a single property - or falsification attempts during shrinking - on a fixed number of worker threads.
+ *
+ * <p>
+ * Thread-bound state that jqwik relies on during a try, i.e. the current test descriptor,
+ * the current domain context and the current filter statistics, is captured when the pool is created
+ * and propagated to each worker.
+ * </p>
+ *
+ * <p>
+ * Tries submitted through {@linkplain #submitTry(TryScope, Supplier)} run within their own try scope
+ * and with their own source of randomness. Randoms are split from the pool's random in the order of submission
+ * so that randomness used within a try does not depend on the worker thread it runs on.
+ * </p>
+ */
+public class TryWorkerPool implements AutoCloseable {
+
+	private final int parallelism;
+	private final ExecutorService executor;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+	private final FilterStatistics currentFilterStatistics;
+	private final JqwikRandom triesRandom;
+
+	public TryWorkerPool(String propertyName, int parallelism, JqwikRandom triesRandom) {
+		this.parallelism = parallelism;
+		this.triesRandom = triesRandom;
+		this.executor = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory(propertyName));
+		this.currentDescriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		this.currentDomainContext = DomainContextFacadeImpl.getCurrentContext();
+		this.currentFilterStatistics = FilterStatistics.current();
+	}
+
+	public int parallelism() {
+		return parallelism;
+	}
+
+	private <T> Future<T> submit(Supplier<T> tryExecution) {
+		return executor.submit(() -> FilterStatistics.collectWhile(currentFilterStatistics, () -> runInCapturedContext(tryExecution)));
+	}
+
+	/**
+	 * Must be called from a single thread, usually the property's thread.
+	 *
+	 * @param tryScope the try scope of this try. Is finished after the try has been executed.
+	 */
+	public <T> Future<T> submitTry(TryScope tryScope, Supplier<T> tryExecution) {
+		JqwikRandom tryRandom = triesRandom.split();
+		return submit(() -> SourceOfRandomness.runWithCurrent(tryRandom, () -> {
+			try {
+				return TryScope.runIn(tryScope, tryExecution);
+			} finally {
+				tryScope.finish();
+			}
+		}));
+	}
+
+	public <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Interrupt all running tries and wait for the workers to finish.
+	 * Must be called before shrinking starts so that no try of this property
+	 * runs concurrently with shrinking.
+	 */
+	public void stopAll() {
+		executor.shutdownNow();
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		stopAll();
+	}
+
+	private <T> T runInCapturedContext(Supplier<T> tryExecution) {
+		DomainContextFacadeImpl.setCurrentContext(currentDomainContext);
+		try {
+			if (currentDescriptor == null) {
+				return tryExecution.get();
+			}
+			return CurrentTestDescriptor.runWithDescriptor(currentDescriptor, tryExecution);
+		} finally {
+			DomainContextFacadeImpl.removeCurrentContext();
+		}
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+		private final String propertyName;
+		private final AtomicInteger threadCount = new AtomicInteger(0);
+
+		private WorkerThreadFactory(String propertyName) {
+			this.propertyName = propertyName;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			String threadName = String.format("jqwik-try-worker-%s-%d", propertyName, threadCount.incrementAndGet());
+			Thread thread = new Thread(runnable, threadName);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Keeps hash-indexed counts of the features of a collection of values
+ * so that uniqueness of a single value can be checked in constant time
+ * instead of extracting the features of all values for each check.
+ *
+ * <p>
+ * Features are compared through {@code equals()} and {@code hashCode()},
+ * which is consistent with {@linkplain FeatureExtractor#isUniqueIn(Object, Collection)}.
+ * </p>
+ */
+public class UniquenessTracker<T> {
+
+	public static <T> UniquenessTracker<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> values) {
+		UniquenessTracker<T> tracker = new UniquenessTracker<>(extractors);
+		for (T value : values) {
+			tracker.count(value);
+		}
+		return tracker;
+	}
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+	private int duplicates = 0;
+
+	public UniquenessTracker(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+	}
+
+	/**
+	 * @return true if no value added so far shares a feature with {@code value}
+	 */
+	public boolean isUnique(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			if (count(i, extractors.get(i).applySafe(value)) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Add {@code value} only if it is unique.
+	 *
+	 * @return true if {@code value} was added
+	 */
+	public boolean addIfUnique(T value) {
+		if (!isUnique(value)) {
+			return false;
+		}
+		count(value);
+		return true;
+	}
+
+	/**
+	 * @return true if {@code value} would be unique if {@code replaced} was removed before
+	 */
+	public boolean isUniqueReplacing(T replaced, T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(value);
+			int others = count(i, feature) - (Objects.equals(extractor.applySafe(replaced), feature) ? 1 : 0);
+			if (others > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Only valid if all tracked values are unique.
+	 *
+	 * @return true if all values would still be unique after replacing
+	 * {@code replaced1} by {@code value1} and {@code replaced2} by {@code value2}
+	 */
+	public boolean isUniqueReplacing(T replaced1, T value1, T replaced2, T value2) {
+		if (!allUnique()) {
+			throw new IllegalStateException("Tracked values are not unique");
+		}
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature1 = extractor.applySafe(value1);
+			Object feature2 = extractor.applySafe(value2);
+			if (Objects.equals(feature1, feature2)) {
+				return false;
+			}
+			Object replacedFeature1 = extractor.applySafe(replaced1);
+			Object replacedFeature2 = extractor.applySafe(replaced2);
+			if (countWithout(i, feature1, replacedFeature1, replacedFeature2) > 0) {
+				return false;
+			}
+			if (countWithout(i, feature2, replacedFeature1, replacedFeature2) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if no two tracked values share a feature
+	 */
+	public boolean allUnique() {
+		return duplicates == 0;
+	}
+
+	private int countWithout(int extractorIndex, Object feature, Object removedFeature1, Object removedFeature2) {
+		int count = count(extractorIndex, feature);
+		if (Objects.equals(feature, removedFeature1)) {
+			count--;
+		}
+		if (Objects.equals(feature, removedFeature2)) {
+			count--;
+		}
+		return count;
+	}
+
+	private void count(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			int previousCount = featureCounts.get(i).merge(feature, 1, Integer::sum) - 1;
+			if (previousCount > 0) {
+				duplicates++;
+			}
+		}
+	}
+
+	private int count(int extractorIndex, Object feature) {
+		return featureCounts.get(extractorIndex).getOrDefault(feature, 0);
+	}
+}
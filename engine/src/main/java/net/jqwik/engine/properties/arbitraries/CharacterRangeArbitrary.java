@@ -42,9 +42,7 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		long maxCount = max + 1 - min;
-		return ExhaustiveGenerators
-					   .fromIterable(() -> IntStream.range(min, max + 1).iterator(), maxCount, maxNumberOfSamples)
-					   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
+		return ExhaustiveGenerators.fromIndex(index -> (char) (min + index), maxCount, maxNumberOfSamples);
 	}
 
 	@Override
@@ -35,6 +35,11 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		return RandomDecimalGenerators.bigDecimals(genSize, range, scale, distribution, shrinkingTarget());
 	}
 
+	RandomGenerator<Double> doubleGenerator(int genSize) {
+		checkRange();
+		return RandomDecimalGenerators.doubles(genSize, range, scale, distribution, shrinkingTarget());
+	}
+
 	private void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
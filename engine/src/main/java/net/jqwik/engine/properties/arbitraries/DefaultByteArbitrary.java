@@ -20,7 +20,7 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.generator(genSize, value -> (byte) value, BigInteger::byteValueExact);
 	}
 
 	@Override
@@ -21,7 +21,7 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
+		return generatingArbitrary.doubleGenerator(genSize);
 	}
 
 	@Override
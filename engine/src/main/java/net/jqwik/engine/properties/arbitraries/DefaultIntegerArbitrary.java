@@ -20,7 +20,7 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.generator(genSize, value -> (int) value, BigInteger::intValueExact);
 	}
 
 	@Override
@@ -20,7 +20,7 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.generator(genSize, value -> value, BigInteger::longValueExact);
 	}
 
 	@Override
@@ -20,7 +20,7 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.generator(genSize, value -> (short) value, BigInteger::shortValueExact);
 	}
 
 	@Override
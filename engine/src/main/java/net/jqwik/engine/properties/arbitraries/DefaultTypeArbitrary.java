@@ -1,7 +1,9 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -10,6 +12,7 @@ import org.junit.platform.commons.support.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
 
 import static org.junit.platform.commons.support.ModifierSupport.*;
 
@@ -155,7 +158,8 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 				  .map(annotatedType -> Arbitraries.defaultFor(TypeUsage.forType(annotatedType.getType())))
 				  .collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		Function<Object[], T> creatorFunction = combinator(creator);
+		Function<List<Object>, T> combinator = paramList -> creatorFunction.apply(paramList.toArray());
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
@@ -173,12 +177,31 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 
 	private Function<Object[], T> combinatorForMethod(Method method) {
 		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
+		MethodHandle handle = unreflect(() -> MethodHandles.lookup().unreflect(method));
+		return combinatorForHandle(handle, method.getParameterCount());
 	}
 
 	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
 		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
+		MethodHandle handle = unreflect(() -> MethodHandles.lookup().unreflectConstructor(constructor));
+		return combinatorForHandle(handle, constructor.getParameterCount());
+	}
+
+	private MethodHandle unreflect(Callable<MethodHandle> unreflect) {
+		try {
+			return unreflect.call();
+		} catch (Exception exception) {
+			return JqwikExceptionSupport.throwAsUncheckedException(exception);
+		}
+	}
+
+	// Spreading the arguments and adapting to generic types is done once per creator, not per generated value
+	private Function<Object[], T> combinatorForHandle(MethodHandle handle, int parameterCount) {
+		MethodHandle spreader =
+			handle.asFixedArity()
+				  .asSpreader(Object[].class, parameterCount)
+				  .asType(MethodType.methodType(Object.class, Object[].class));
+		return params -> generateNext(params, p -> (Object) spreader.invokeExact(p));
 	}
 
 	private T generateNext(Object[] params, Combinator combinator) {
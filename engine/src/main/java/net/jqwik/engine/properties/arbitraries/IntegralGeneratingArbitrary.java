@@ -33,6 +33,10 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	<T> RandomGenerator<T> generator(int genSize, LongFunction<T> fromLong, Function<BigInteger, T> fromBigInteger) {
+		return RandomGenerators.integralNumbers(min, max, shrinkingTarget(), distribution, fromLong, fromBigInteger);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -41,7 +45,8 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			BigInteger first = min;
+			return ExhaustiveGenerators.fromIndex(index -> first.add(valueOf(index)), maxCount.longValueExact(), maxNumberOfSamples);
 		}
 	}
 
@@ -94,24 +99,4 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
-
-		BigInteger current = min;
-
-		@Override
-		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
-		}
-
-		@Override
-		public BigInteger next() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-			BigInteger next = current;
-			current = current.add(BigInteger.ONE);
-			return next;
-		}
-	}
-
 }
@@ -5,13 +5,16 @@ import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.support.*;
 
-class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
+class CombinedExhaustiveGenerator<R> implements IndexedExhaustiveGenerator<R> {
 	private final Long maxCount;
 	private final List<Arbitrary<Object>> arbitraries;
 	private final Function<List<Object>, R> combinator;
 
+	private volatile List<ExhaustiveGenerator<Object>> generators = null;
+
 	static Optional<Long> calculateMaxCount(List<Arbitrary<Object>> arbitraries, long maxNumberOfSamples) {
 		long product = 1;
 		for (Arbitrary<Object> arbitrary : arbitraries) {
@@ -38,6 +41,39 @@ class CombinedExhaustiveGenerator<R> implements ExhaustiveGenerator<R> {
 		return maxCount;
 	}
 
+	private List<ExhaustiveGenerator<Object>> generators() {
+		if (generators == null) {
+			generators = arbitraries.stream()
+									.map(a -> a.exhaustive().get())
+									.collect(Collectors.toList());
+		}
+		return generators;
+	}
+
+	@Override
+	public boolean isIndexed() {
+		return generators().stream().allMatch(generator -> IndexedExhaustiveGenerator.isIndexed(generator));
+	}
+
+	// The last generator's values change fastest, which is the order of iteration
+	@Override
+	public Optional<Tuple1<R>> valueAt(long index) {
+		List<ExhaustiveGenerator<Object>> generators = generators();
+		Object[] values = new Object[generators.size()];
+		long remainder = index;
+		for (int i = generators.size() - 1; i >= 0; i--) {
+			ExhaustiveGenerator<Object> generator = generators.get(i);
+			long count = generator.maxCount();
+			Optional<Tuple1<Object>> value = ((IndexedExhaustiveGenerator<Object>) generator).valueAt(remainder % count);
+			if (!value.isPresent()) {
+				return Optional.empty();
+			}
+			values[i] = value.get().get1();
+			remainder /= count;
+		}
+		return Optional.of(Tuple.of(combinator.apply(Arrays.asList(values))));
+	}
+
 	@Override
 	public Iterator<R> iterator() {
 		List<Iterable<Object>> iterables = arbitraries
@@ -12,11 +12,12 @@ import static net.jqwik.engine.properties.UniquenessChecker.*;
 public class ExhaustiveGenerators {
 
 	public static <T> Optional<ExhaustiveGenerator<T>> create(Supplier<T> supplier, long maxNumberOfSamples) {
-		return fromIterable(() -> new SupplierIterator<>(supplier), 1, maxNumberOfSamples);
+		return fromIndex(ignore -> supplier.get(), 1, maxNumberOfSamples);
 	}
 
 	public static <T> Optional<ExhaustiveGenerator<T>> choose(List<T> values, long maxNumberOfSamples) {
-		return fromIterable(values, values.size(), maxNumberOfSamples);
+		List<T> copyOfValues = new ArrayList<>(values);
+		return fromIndex(index -> copyOfValues.get((int) index), copyOfValues.size(), maxNumberOfSamples);
 	}
 
 	public static Optional<ExhaustiveGenerator<Character>> choose(char[] characters, long maxNumberOfSamples) {
@@ -34,6 +35,16 @@ public class ExhaustiveGenerators {
 		return Optional.of(new IterableBasedExhaustiveGenerator<>(iterator, maxCount));
 	}
 
+	/**
+	 * Values are computed from their index, which allows to start generation at any index.
+	 */
+	public static <T> Optional<ExhaustiveGenerator<T>> fromIndex(LongFunction<T> valueAtIndex, long maxCount, long maxNumberOfSamples) {
+		if (maxCount > maxNumberOfSamples) {
+			return Optional.empty();
+		}
+		return Optional.of(new IndexBasedExhaustiveGenerator<>(valueAtIndex, maxCount));
+	}
+
 	public static <T> Optional<ExhaustiveGenerator<List<T>>> list(
 			Arbitrary<T> elementArbitrary,
 			int minSize, int maxSize,
@@ -103,28 +114,4 @@ public class ExhaustiveGenerators {
 			maxCount -> new FlatMappedExhaustiveGenerator<>(base, maxCount, mapper)
 		);
 	}
-
-	private static class SupplierIterator<T> implements Iterator<T> {
-
-		private final Supplier<T> supplier;
-		private volatile boolean generated = false;
-
-		private SupplierIterator(Supplier<T> supplier) {
-			this.supplier = supplier;
-		}
-
-		@Override
-		public boolean hasNext() {
-			return !generated;
-		}
-
-		@Override
-		public T next() {
-			if (generated) {
-				throw new NoSuchElementException();
-			}
-			generated = true;
-			return supplier.get();
-		}
-	}
 }
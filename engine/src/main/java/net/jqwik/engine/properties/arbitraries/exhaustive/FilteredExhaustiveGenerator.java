@@ -4,9 +4,10 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.properties.*;
 
-public class FilteredExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
+public class FilteredExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
 	private final ExhaustiveGenerator<T> toFilter;
 	private final Predicate<T> filter;
 
@@ -20,6 +21,16 @@ public class FilteredExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 		return toFilter.maxCount();
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return IndexedExhaustiveGenerator.isIndexed(toFilter);
+	}
+
+	@Override
+	public Optional<Tuple1<T>> valueAt(long index) {
+		return ((IndexedExhaustiveGenerator<T>) toFilter).valueAt(index).filter(value -> filter.test(value.get1()));
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		final Iterator<T> mappedIterator = toFilter.iterator();
@@ -3,9 +3,10 @@ package net.jqwik.engine.properties.arbitraries.exhaustive;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.properties.*;
 
-public class IgnoreExceptionExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
+public class IgnoreExceptionExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
 	private final ExhaustiveGenerator<T> toFilter;
 	private final Class<? extends Throwable> exceptionType;
 
@@ -19,6 +20,23 @@ public class IgnoreExceptionExhaustiveGenerator<T> implements ExhaustiveGenerato
 		return toFilter.maxCount();
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return IndexedExhaustiveGenerator.isIndexed(toFilter);
+	}
+
+	@Override
+	public Optional<Tuple1<T>> valueAt(long index) {
+		try {
+			return ((IndexedExhaustiveGenerator<T>) toFilter).valueAt(index);
+		} catch (Throwable throwable) {
+			if (exceptionType.isAssignableFrom(throwable.getClass())) {
+				return Optional.empty();
+			}
+			throw throwable;
+		}
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		final Iterator<T> mappedIterator = toFilter.iterator();
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
+class IndexBasedExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
+
+	final private LongFunction<T> valueAtIndex;
+	final private long maxCount;
+
+	IndexBasedExhaustiveGenerator(LongFunction<T> valueAtIndex, long maxCount) {
+		this.valueAtIndex = valueAtIndex;
+		this.maxCount = maxCount;
+	}
+
+	@Override
+	public long maxCount() {
+		return maxCount;
+	}
+
+	@Override
+	public boolean isIndexed() {
+		return true;
+	}
+
+	@Override
+	public Optional<Tuple1<T>> valueAt(long index) {
+		return Optional.of(Tuple.of(valueAtIndex.apply(index)));
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			long index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < maxCount;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return valueAtIndex.apply(index++);
+			}
+		};
+	}
+}
@@ -0,0 +1,36 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
+/**
+ * An exhaustive generator whose values can be computed from their index
+ * in the generated sequence without iterating through all preceding values.
+ * This allows to partition the exhaustive space and to start generation at any index.
+ *
+ * <p>
+ * The index space ranges from 0 to {@linkplain #maxCount()} (exclusive).
+ * Iterating and computing values by index must lead to the same sequence of values.
+ * </p>
+ */
+public interface IndexedExhaustiveGenerator<T> extends ExhaustiveGenerator<T> {
+
+	static boolean isIndexed(ExhaustiveGenerator<?> generator) {
+		return generator instanceof IndexedExhaustiveGenerator && ((IndexedExhaustiveGenerator<?>) generator).isIndexed();
+	}
+
+	/**
+	 * Generators that wrap other generators can only compute values by index if all wrapped generators can.
+	 */
+	boolean isIndexed();
+
+	/**
+	 * Only call if {@linkplain #isIndexed()} is true.
+	 *
+	 * @return the value wrapped in a tuple to allow {@code null} values
+	 * or {@linkplain Optional#empty()} if there is no value at this index, e.g. because it has been filtered out
+	 */
+	Optional<Tuple1<T>> valueAt(long index);
+}
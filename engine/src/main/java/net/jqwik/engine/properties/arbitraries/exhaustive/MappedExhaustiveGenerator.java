@@ -4,8 +4,9 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 
-public class MappedExhaustiveGenerator<T, U> implements ExhaustiveGenerator<U> {
+public class MappedExhaustiveGenerator<T, U> implements IndexedExhaustiveGenerator<U> {
 	private final ExhaustiveGenerator<T> toMap;
 	private final Function<T, U> mapper;
 
@@ -18,6 +19,16 @@ public class MappedExhaustiveGenerator<T, U> implements ExhaustiveGenerator<U> {
 		return toMap.maxCount();
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return IndexedExhaustiveGenerator.isIndexed(toMap);
+	}
+
+	@Override
+	public Optional<Tuple1<U>> valueAt(long index) {
+		return ((IndexedExhaustiveGenerator<T>) toMap).valueAt(index).map(value -> Tuple.of(mapper.apply(value.get1())));
+	}
+
 	@Override
 	public Iterator<U> iterator() {
 		final Iterator<T> mappedIterator = toMap.iterator();
@@ -3,8 +3,9 @@ package net.jqwik.engine.properties.arbitraries.exhaustive;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 
-public class WithNullExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
+public class WithNullExhaustiveGenerator<T> implements IndexedExhaustiveGenerator<T> {
 	private final ExhaustiveGenerator<T> base;
 
 	public WithNullExhaustiveGenerator(ExhaustiveGenerator<T> base) {
@@ -16,6 +17,19 @@ public class WithNullExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 		return base.maxCount() + 1;
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return IndexedExhaustiveGenerator.isIndexed(base);
+	}
+
+	@Override
+	public Optional<Tuple1<T>> valueAt(long index) {
+		if (index == 0) {
+			return Optional.of(Tuple.of((T) null));
+		}
+		return ((IndexedExhaustiveGenerator<T>) base).valueAt(index - 1);
+	}
+
 	@Override
 	public Iterator<T> iterator() {
 		return new Iterator<T>() {
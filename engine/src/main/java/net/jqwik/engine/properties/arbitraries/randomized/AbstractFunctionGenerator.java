@@ -3,6 +3,7 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
@@ -14,6 +15,13 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	final RandomGenerator<R> resultGenerator;
 	final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions;
 
+	// Proxies hand in the same method instances for each invocation, so method kinds and handles are only determined once
+	private final Map<Method, MethodKind> methodKinds = new ConcurrentHashMap<>();
+	private final Map<Method, MethodHandle> defaultMethodHandles = new ConcurrentHashMap<>();
+
+	// Empty if the proxy class's constructor cannot be accessed through a method handle
+	private volatile Optional<MethodHandle> proxyConstructor = null;
+
 	AbstractFunctionGenerator(
 		Class<F> functionalType,
 		RandomGenerator<R> resultGenerator,
@@ -25,10 +33,41 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	}
 
 	F createFunctionProxy(InvocationHandler handler) {
+		Optional<MethodHandle> constructor = proxyConstructor;
+		if (constructor == null) {
+			return createFirstFunctionProxy(handler);
+		}
+		if (!constructor.isPresent()) {
+			return newProxyInstance(handler);
+		}
+		try {
+			//noinspection unchecked
+			return (F) constructor.get().invokeExact(handler);
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		}
+	}
+
+	private F createFirstFunctionProxy(InvocationHandler handler) {
+		F proxy = newProxyInstance(handler);
+		proxyConstructor = constructorHandle(proxy.getClass());
+		return proxy;
+	}
+
+	private F newProxyInstance(InvocationHandler handler) {
 		//noinspection unchecked
 		return (F) Proxy.newProxyInstance(functionalType.getClassLoader(), new Class[]{functionalType}, handler);
 	}
 
+	private static Optional<MethodHandle> constructorHandle(Class<?> proxyClass) {
+		try {
+			Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+			MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+			return Optional.of(handle.asType(MethodType.methodType(Object.class, InvocationHandler.class)));
+		} catch (NoSuchMethodException | IllegalAccessException | RuntimeException cannotAccess) {
+			return Optional.empty();
+		}
+	}
 
 	public Shrinkable<F> createConstantFunction(Shrinkable<R> shrinkableConstant) {
 		return shrinkableConstant.map(this::constantFunction);
@@ -36,24 +75,31 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 
 	private F constantFunction(R constant) {
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
-			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToStringOfConstantMethod(constant);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return constant.hashCode() + constant.hashCode();
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
+			switch (kindOf(method)) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToStringOfConstantMethod(constant);
+				case HASH_CODE:
+					return constant.hashCode() + constant.hashCode();
+				case DEFAULT:
+					return handleDefaultMethod(proxy, method, args);
+				default:
+					return conditionalResult(args).orElse(new Object[]{constant})[0];
 			}
-
-			return conditionalResult(args).orElse(new Object[]{constant})[0];
 		};
 		return createFunctionProxy(handler);
 	}
 
+	MethodKind kindOf(Method method) {
+		MethodKind kind = methodKinds.get(method);
+		if (kind == null) {
+			kind = MethodKind.of(method);
+			methodKinds.put(method, kind);
+		}
+		return kind;
+	}
+
 	protected Object handleEqualsMethod(final Object proxy, Object[] args) {
 		return proxy == args[0];
 	}
@@ -68,16 +114,17 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 
 	// Returns result wrapped in array to allow null as result
 	protected Optional<Object[]> conditionalResult(Object[] args) {
-		Optional<Object[]> conditionalResult = Optional.empty();
+		if (conditions.isEmpty()) {
+			return Optional.empty();
+		}
+		List<Object> params = Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
 				Object[] result = new Object[]{condition.get2().apply(params)};
-				conditionalResult = Optional.of(result);
-				break;
+				return Optional.of(result);
 			}
 		}
-		return conditionalResult;
+		return Optional.empty();
 	}
 
 	protected Object handleDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable {
@@ -86,7 +133,32 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	}
 
 	protected MethodHandle handleForDefaultMethod(Method method) throws Throwable {
-		return new DefaultMethodHandleFactory().create(method);
+		MethodHandle handle = defaultMethodHandles.get(method);
+		if (handle == null) {
+			handle = new DefaultMethodHandleFactory().create(method);
+			defaultMethodHandles.put(method, handle);
+		}
+		return handle;
+	}
+
+	enum MethodKind {
+		EQUALS, TO_STRING, HASH_CODE, DEFAULT, FUNCTION;
+
+		private static MethodKind of(Method method) {
+			if (JqwikReflectionSupport.isEqualsMethod(method)) {
+				return EQUALS;
+			}
+			if (JqwikReflectionSupport.isToStringMethod(method)) {
+				return TO_STRING;
+			}
+			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
+				return HASH_CODE;
+			}
+			if (method.isDefault()) {
+				return DEFAULT;
+			}
+			return FUNCTION;
+		}
 	}
 
 }
@@ -9,31 +9,31 @@ import net.jqwik.engine.properties.*;
 
 class BiasedNumericGenerator implements RandomNumericGenerator {
 
-	private final RandomNumericGenerator partitionedGenerator;
-
-	BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
+	static RandomNumericGenerator create(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
 		Range<BigInteger> range = Range.of(min, max);
-		partitionedGenerator = partitionedGenerator(range, partitionPoints);
+		if (partitionPoints.isEmpty()) {
+			return createUniformGenerator(range.min, range.max);
+		}
+		List<RandomNumericGenerator> partitions = createPartitions(range, partitionPoints);
+		if (partitions.stream().allMatch(partition -> partition instanceof LongNumericGenerator)) {
+			return new LongBiasedNumericGenerator(partitions.toArray(new LongNumericGenerator[0]));
+		}
+		return new BiasedNumericGenerator(partitions.toArray(new RandomNumericGenerator[0]));
 	}
 
-	@Override
-	public BigInteger next(Random random) {
-		return partitionedGenerator.next(random);
+	private final RandomNumericGenerator[] partitions;
+
+	private BiasedNumericGenerator(RandomNumericGenerator[] partitions) {
+		this.partitions = partitions;
 	}
 
-	private RandomNumericGenerator partitionedGenerator(
-		Range<BigInteger> range,
-		List<BigInteger> partitionPoints
-	) {
-		if (partitionPoints.isEmpty()) {
-			return createUniformGenerator(range.min, range.max);
-		}
-		List<RandomNumericGenerator> generators = createPartitions(range, partitionPoints);
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+	@Override
+	public BigInteger next(Random random) {
+		return partitions[random.nextInt(partitions.length)].next(random);
 	}
 
-	private List<RandomNumericGenerator> createPartitions(
+	private static List<RandomNumericGenerator> createPartitions(
 		Range<BigInteger> range,
 		List<BigInteger> partitionPoints
 	) {
@@ -55,7 +55,7 @@ class BiasedNumericGenerator implements RandomNumericGenerator {
 		return partitions;
 	}
 
-	private RandomNumericGenerator createUniformGenerator(
+	private static RandomNumericGenerator createUniformGenerator(
 		BigInteger minGenerate,
 		BigInteger maxGenerate
 	) {
@@ -64,4 +64,18 @@ class BiasedNumericGenerator implements RandomNumericGenerator {
 		return RandomDistribution.uniform().createGenerator(ignoredGenSize, minGenerate, maxGenerate, ignoredCenter);
 	}
 
+	private static class LongBiasedNumericGenerator implements LongNumericGenerator {
+
+		private final LongNumericGenerator[] partitions;
+
+		private LongBiasedNumericGenerator(LongNumericGenerator[] partitions) {
+			this.partitions = partitions;
+		}
+
+		@Override
+		public long nextLong(Random random) {
+			return partitions[random.nextInt(partitions.length)].nextLong(random);
+		}
+	}
+
 }
@@ -7,7 +7,7 @@ import net.jqwik.api.*;
 public class BiasedRandomDistribution implements RandomDistribution {
 	@Override
 	public RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
-		return new BiasedNumericGenerator(genSize, min, max, center);
+		return BiasedNumericGenerator.create(genSize, min, max, center);
 	}
 
 	@Override
@@ -7,26 +7,84 @@ import net.jqwik.api.*;
 
 class BigUniformNumericGenerator implements RandomDistribution.RandomNumericGenerator {
 
+	// Offsets of up to 62 bits can be drawn as long without overflowing the count of values
+	private static final int MAX_LONG_OFFSET_BITS = 62;
+
 	private final BigInteger min;
-	private final BigInteger max;
 	private final BigInteger range;
-	private final int bits;
+
+	// Number of values in range if range fits into MAX_LONG_OFFSET_BITS, 0 otherwise
+	private final long longCount;
+
+	// Range split into a top limb of at most 62 bits and a lower part of lowBytes bytes
+	private final int lowBytes;
+	private final long topOfRange;
+	private final byte[] lowOfRange;
 
 	BigUniformNumericGenerator(BigInteger min, BigInteger max) {
 		this.min = min;
-		this.max = max;
 		this.range = max.subtract(min);
-		this.bits = range.bitLength();
+		int bits = range.bitLength();
+		if (bits <= MAX_LONG_OFFSET_BITS) {
+			this.longCount = range.longValueExact() + 1;
+			this.lowBytes = 0;
+			this.topOfRange = 0;
+			this.lowOfRange = new byte[0];
+		} else {
+			this.longCount = 0;
+			this.lowBytes = (bits - MAX_LONG_OFFSET_BITS + 7) / 8;
+			this.topOfRange = range.shiftRight(lowBytes * 8).longValueExact();
+			this.lowOfRange = lowBytesOf(range, lowBytes);
+		}
+	}
+
+	private static byte[] lowBytesOf(BigInteger value, int numberOfBytes) {
+		byte[] bytes = value.toByteArray();
+		return Arrays.copyOfRange(bytes, bytes.length - numberOfBytes, bytes.length);
 	}
 
 	@Override
 	public BigInteger next(Random random) {
+		if (longCount > 0) {
+			long offset = LongUniformNumericGenerator.nextLongBelow(longCount, random);
+			return min.add(BigInteger.valueOf(offset));
+		}
+		return min.add(nextOffsetByLimbs(random));
+	}
+
+	/**
+	 * The top limb is drawn within the top limb of the range and the lower bytes are drawn freely.
+	 * Only if the top limb equals the range's top limb and the lower bytes exceed the range's lower bytes
+	 * the offset has to be drawn again, which happens with a probability of less than 2^-54.
+	 */
+	private BigInteger nextOffsetByLimbs(Random random) {
 		while (true) {
-			BigInteger rawValue = new BigInteger(bits, random);
-			BigInteger value = rawValue.add(min);
-			if (value.compareTo(min) >= 0 && value.compareTo(max) <= 0) {
-				return value;
+			long top = LongUniformNumericGenerator.nextLongBelow(topOfRange + 1, random);
+			byte[] low = new byte[lowBytes];
+			random.nextBytes(low);
+			if (top < topOfRange || compareUnsigned(low, lowOfRange) <= 0) {
+				return offset(top, low);
+			}
+		}
+	}
+
+	private static BigInteger offset(long top, byte[] low) {
+		byte[] magnitude = new byte[8 + low.length];
+		for (int i = 7; i >= 0; i--) {
+			magnitude[i] = (byte) top;
+			top >>>= 8;
+		}
+		System.arraycopy(low, 0, magnitude, 8, low.length);
+		return new BigInteger(1, magnitude);
+	}
+
+	private static int compareUnsigned(byte[] left, byte[] right) {
+		for (int i = 0; i < left.length; i++) {
+			int comparison = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+			if (comparison != 0) {
+				return comparison;
 			}
 		}
+		return 0;
 	}
 }
@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -50,17 +48,39 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	@Override
 	public Shrinkable<C> next(Random random) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
-		List<T> existingValues = new ArrayList<>();
 
 		// Raise probability for no duplicates even in large containers to above 5 percent
 		boolean noDuplicates = !noDuplicatesHadToBeSwitchedOff
 								   && uniquenessExtractors.isEmpty()
 								   && random.nextInt(100) <= 5;
 
+		if (!noDuplicates && uniquenessExtractors.isEmpty()) {
+			return createShrinkable.apply(nextElements(random, listSize));
+		}
+		return createShrinkable.apply(nextAcceptedElements(random, listSize, noDuplicates));
+	}
+
+	/**
+	 * Without any constraint on elements every generated element is accepted.
+	 * Elements are therefore drawn in a plain loop into a list of the final size,
+	 * which uses the same random values as {@linkplain #nextAcceptedElements(Random, int, boolean)} would do.
+	 */
+	private List<Shrinkable<T>> nextElements(Random random, int listSize) {
+		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>(listSize);
+		for (int i = 0; i < listSize; i++) {
+			listOfShrinkables.add(elementGenerator.next(random));
+		}
+		return listOfShrinkables;
+	}
+
+	private List<Shrinkable<T>> nextAcceptedElements(Random random, int listSize, boolean noDuplicates) {
+		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>(listSize);
+		Set<T> existingValues = new HashSet<>();
+		UniquenessTracker<T> uniquenessTracker = new UniquenessTracker<>(uniquenessExtractors);
+
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
+				Shrinkable<T> next = nextUntilAccepted(random, existingValues, uniquenessTracker, elementGenerator::next, noDuplicates);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFilterMissesException) {
 				// Switch off noDuplicates
@@ -79,12 +99,13 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 			}
 
 		}
-		return createShrinkable.apply(listOfShrinkables);
+		return listOfShrinkables;
 	}
 
 	private Shrinkable<T> nextUntilAccepted(
 		Random random,
-		List<T> existingValues,
+		Set<T> existingValues,
+		UniquenessTracker<T> uniquenessTracker,
 		Function<Random, Shrinkable<T>> fetchShrinkable,
 		boolean noDuplicates
 	) {
@@ -96,10 +117,12 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 				if (noDuplicates && existingValues.contains(value)) {
 					return Tuple.of(false, next);
 				}
-				if (!checkSpecifiedUniqueness(existingValues, value)) {
+				if (!uniquenessTracker.addIfUnique(value)) {
 					return Tuple.of(false, next);
 				}
-				existingValues.add(value);
+				if (noDuplicates) {
+					existingValues.add(value);
+				}
 				return Tuple.of(true, next);
 			},
 			(maxMisses) -> {
@@ -110,8 +133,4 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return accepted;
 	}
 
-	private boolean checkSpecifiedUniqueness(List<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
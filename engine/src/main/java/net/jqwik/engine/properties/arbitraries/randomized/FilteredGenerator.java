@@ -5,12 +5,33 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.FilterStatistics.*;
 import net.jqwik.engine.properties.shrinking.*;
 
+/**
+ * Generates values until the filter predicate accepts one.
+ *
+ * <p>
+ * While a property is being checked, attempts and acceptances are recorded in {@linkplain FilterStatistics}.
+ * If narrowing is switched on and values are generated by a {@linkplain NarrowableGenerator narrowable generator},
+ * a filter that accepts less than 5 percent of values after 1024 attempts will sample
+ * most values from the range of accepted values seen so far.
+ * Every 4th value is still sampled from the full range so that the narrowed range can widen again.
+ * </p>
+ */
 public class FilteredGenerator<T> implements RandomGenerator<T> {
+
+	private static final int NARROWING_MIN_ATTEMPTS = 1024;
+	private static final double NARROWING_MAX_ACCEPTANCE_RATE = 0.05;
+	private static final int NARROWING_MIN_ACCEPTED = 10;
+	private static final int FULL_RANGE_SAMPLING_RATIO = 4;
+
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<T> filterPredicate;
 
+	// The record of the statistics used last, so that the statistics' lock is only taken once per property
+	private volatile Tuple.Tuple2<FilterStatistics, FilterRecord> lastRecord = null;
+
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<T> filterPredicate) {
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
@@ -18,7 +39,25 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		return nextUntilAccepted(random, toFilter::next);
+		FilterStatistics statistics = FilterStatistics.current();
+		if (statistics == null) {
+			return nextUntilAccepted(random, toFilter::next, null);
+		}
+		FilterRecord record = recordIn(statistics);
+		if (record.isNarrowingAllowed() && toFilter instanceof NarrowableGenerator) {
+			return nextUntilAccepted(random, r -> nextCandidate(r, record), record);
+		}
+		return nextUntilAccepted(random, toFilter::next, record);
+	}
+
+	private FilterRecord recordIn(FilterStatistics statistics) {
+		Tuple.Tuple2<FilterStatistics, FilterRecord> last = lastRecord;
+		if (last != null && last.get1() == statistics) {
+			return last.get2();
+		}
+		FilterRecord record = statistics.recordOf(this);
+		lastRecord = Tuple.of(statistics, record);
+		return record;
 	}
 
 	@Override
@@ -26,15 +65,56 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return String.format("Filtering [%s]", toFilter);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	private Shrinkable<T> nextCandidate(Random random, FilterRecord record) {
+		if (isNarrowingCheckDue(record)) {
+			narrow(record);
+		}
+		if (record.isNarrowed() && random.nextInt(FULL_RANGE_SAMPLING_RATIO) != 0) {
+			@SuppressWarnings("unchecked")
+			RandomGenerator<T> narrowedGenerator = (RandomGenerator<T>) record.narrowedGenerator();
+			return narrowedGenerator.next(random);
+		}
+		return toFilter.next(random);
+	}
+
+	// Narrowing is (re)considered whenever the number of attempts has doubled
+	private boolean isNarrowingCheckDue(FilterRecord record) {
+		int attempts = record.attempts();
+		return attempts >= NARROWING_MIN_ATTEMPTS && Integer.bitCount(attempts) == 1;
+	}
+
+	private void narrow(FilterRecord record) {
+		if (record.acceptedInRange() < NARROWING_MIN_ACCEPTED) {
+			return;
+		}
+		// Once narrowed the acceptance rate is no longer representative for the full range
+		if (!record.isNarrowed() && record.acceptanceRate() >= NARROWING_MAX_ACCEPTANCE_RATE) {
+			return;
+		}
+		long min = record.minAccepted();
+		long max = record.maxAccepted();
+		long margin = ((max - min) >>> 2) + 1;
+		long lower = min - margin;
+		if (lower > min) {
+			lower = Long.MIN_VALUE;
+		}
+		long upper = max + margin;
+		if (upper < max) {
+			upper = Long.MAX_VALUE;
+		}
+		((NarrowableGenerator<T>) toFilter).narrow(lower, upper).ifPresent(record::narrowedTo);
+	}
+
+	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable, FilterRecord record) {
 		Shrinkable<T> accepted = MaxTriesLoop.loop(
 			() -> true,
 			next -> {
 				next = fetchShrinkable.apply(random);
-				if (filterPredicate.test(next.value())) {
-					return Tuple.of(true, next);
+				boolean isAccepted = filterPredicate.test(next.value());
+				if (record != null) {
+					recordAttempt(record, next, isAccepted);
 				}
-				return Tuple.of(false, next);
+				return Tuple.of(isAccepted, next);
 			},
 			(maxMisses) -> {
 				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
@@ -44,4 +124,11 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		return new FilteredShrinkable<>(accepted, filterPredicate);
 	}
 
+	private void recordAttempt(FilterRecord record, Shrinkable<T> candidate, boolean isAccepted) {
+		record.attempted(isAccepted);
+		if (isAccepted && candidate instanceof LongBackedShrinkable) {
+			record.acceptedValue(((LongBackedShrinkable<T>) candidate).longValue());
+		}
+	}
+
 }
@@ -8,12 +8,13 @@ import net.jqwik.engine.support.*;
 
 public class FrequencyGenerator<T> implements RandomGenerator<T> {
 
-	private final Map<T, Integer> upperBorders = new HashMap<>();
+	// Strictly ascending upper borders of the values at the same position in valuesToChooseFrom
+	private final int[] upperBorders;
+	private final List<T> valuesToChooseFrom = new ArrayList<>();
 	private int size = 0;
-	private List<T> valuesToChooseFrom;
 
 	FrequencyGenerator(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		calculateUpperBorders(frequencies);
+		upperBorders = calculateUpperBorders(frequencies);
 		if (size <= 0) {
 			throw new JqwikException(String.format(
 				"%s does not contain any positive frequencies.",
@@ -22,33 +23,24 @@ public class FrequencyGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
-	private void calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		List<T> values = new ArrayList<>();
+	private int[] calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
+		int[] borders = new int[frequencies.size()];
 		for (Tuple.Tuple2<Integer, T> tuple : frequencies) {
 			int frequency = tuple.get1();
 			if (frequency <= 0)
 				continue;
 			size += frequency;
-			T value = tuple.get2();
-			values.add(value);
-			upperBorders.put(value, size);
+			borders[valuesToChooseFrom.size()] = size;
+			valuesToChooseFrom.add(tuple.get2());
 		}
-		valuesToChooseFrom = values;
+		return Arrays.copyOf(borders, valuesToChooseFrom.size());
 	}
 
 	private T choose(int index) {
-		T currentChoice = null;
-		for (T key : upperBorders.keySet()) {
-			int upper = upperBorders.get(key);
-			if (upper > index) {
-				if (currentChoice == null) {
-					currentChoice = key;
-				} else if (upper < upperBorders.get(currentChoice)) {
-					currentChoice = key;
-				}
-			}
-		}
-		return currentChoice;
+		// The chosen value is the one with the smallest upper border above index
+		int position = Arrays.binarySearch(upperBorders, index);
+		int chosen = position >= 0 ? position + 1 : -position - 1;
+		return valuesToChooseFrom.get(chosen);
 	}
 
 	@Override
@@ -9,7 +9,6 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.*;
-import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
@@ -31,24 +30,23 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
 		InvocationHandler handler = (proxy, method, args) -> {
-			if (JqwikReflectionSupport.isEqualsMethod(method)) {
-				return handleEqualsMethod(proxy, args);
+			switch (kindOf(method)) {
+				case EQUALS:
+					return handleEqualsMethod(proxy, args);
+				case TO_STRING:
+					return handleToString(baseSeed);
+				case HASH_CODE:
+					return handleHashCode((int) baseSeed);
+				case DEFAULT:
+					return handleDefaultMethod(proxy, method, args);
+				default:
+					return conditionalResult(args).orElseGet(() -> {
+						Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+						Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+						storeLastResult(shrinkableResult);
+						return new Object[]{shrinkableResult.value()};
+					})[0];
 			}
-			if (JqwikReflectionSupport.isToStringMethod(method)) {
-				return handleToString(baseSeed);
-			}
-			if (JqwikReflectionSupport.isHashCodeMethod(method)) {
-				return handleHashCode((int) baseSeed);
-			}
-			if (method.isDefault()) {
-				return handleDefaultMethod(proxy, method, args);
-			}
-			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
-				storeLastResult(shrinkableResult);
-				return new Object[]{shrinkableResult.value()};
-			})[0];
 		};
 		return createFunctionProxy(handler);
 	}
@@ -0,0 +1,76 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates integral values of a range within {@code long}.
+ * Values are sampled from {@code sampleMin} to {@code sampleMax}
+ * but shrink within the full range.
+ */
+class LongRangeGenerator<T> implements NarrowableGenerator<T> {
+
+	private final LongNumericGenerator numericGenerator;
+	private final Range<BigInteger> range;
+	private final BigInteger shrinkingTarget;
+	private final LongFunction<T> fromLong;
+	private final long sampleMin;
+	private final long sampleMax;
+
+	LongRangeGenerator(
+		LongNumericGenerator numericGenerator,
+		Range<BigInteger> range,
+		BigInteger shrinkingTarget,
+		LongFunction<T> fromLong
+	) {
+		this(numericGenerator, range, shrinkingTarget, fromLong, range.min.longValueExact(), range.max.longValueExact());
+	}
+
+	private LongRangeGenerator(
+		LongNumericGenerator numericGenerator,
+		Range<BigInteger> range,
+		BigInteger shrinkingTarget,
+		LongFunction<T> fromLong,
+		long sampleMin,
+		long sampleMax
+	) {
+		this.numericGenerator = numericGenerator;
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+		this.fromLong = fromLong;
+		this.sampleMin = sampleMin;
+		this.sampleMax = sampleMax;
+	}
+
+	@Override
+	public Shrinkable<T> next(Random random) {
+		return new LongBackedShrinkable<>(numericGenerator.nextLong(random), range, shrinkingTarget, fromLong);
+	}
+
+	@Override
+	public Optional<RandomGenerator<T>> narrow(long min, long max) {
+		long lower = Math.max(min, sampleMin);
+		long upper = Math.min(max, sampleMax);
+		if (lower > upper) {
+			return Optional.empty();
+		}
+		// Differences are compared unsigned since they can exceed Long.MAX_VALUE
+		long narrowedWidth = upper - lower;
+		long sampledWidth = sampleMax - sampleMin;
+		if (Long.compareUnsigned(narrowedWidth, sampledWidth >>> 1) > 0) {
+			return Optional.empty();
+		}
+		LongNumericGenerator narrowedGenerator = new LongUniformNumericGenerator(BigInteger.valueOf(lower), BigInteger.valueOf(upper));
+		return Optional.of(new LongRangeGenerator<>(narrowedGenerator, range, shrinkingTarget, fromLong, lower, upper));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[%s..%s]", fromLong.apply(sampleMin), fromLong.apply(sampleMax));
+	}
+}
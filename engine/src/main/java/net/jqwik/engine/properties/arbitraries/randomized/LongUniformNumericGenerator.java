@@ -0,0 +1,51 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+class LongUniformNumericGenerator implements LongNumericGenerator {
+
+	private final long min;
+	private final long max;
+
+	// Number of values in range; 0 if all longs are in range, negative if more than Long.MAX_VALUE values are in range
+	private final long count;
+
+	LongUniformNumericGenerator(BigInteger min, BigInteger max) {
+		this.min = min.longValueExact();
+		this.max = max.longValueExact();
+		this.count = this.max - this.min + 1;
+	}
+
+	@Override
+	public long nextLong(Random random) {
+		if (count == 0) {
+			return random.nextLong();
+		}
+		if (count > 0) {
+			return min + nextLongBelow(count, random);
+		}
+		// At least half of all longs are in range
+		while (true) {
+			long value = random.nextLong();
+			if (value >= min && value <= max) {
+				return value;
+			}
+		}
+	}
+
+	static long nextLongBelow(long bound, Random random) {
+		long mask = bound - 1;
+		if ((bound & mask) == 0) {
+			return random.nextLong() & mask;
+		}
+		// Reject the top values that would make the distribution of the remainder uneven
+		while (true) {
+			long bits = random.nextLong() >>> 1;
+			long value = bits % bound;
+			if (bits - value + mask >= 0) {
+				return value;
+			}
+		}
+	}
+}
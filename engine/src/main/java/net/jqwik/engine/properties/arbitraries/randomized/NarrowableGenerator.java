@@ -0,0 +1,22 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A generator of integral values that can provide a generator for a part of its range.
+ * Used by {@linkplain FilteredGenerator} to stop sampling where a filter hardly ever accepts values.
+ *
+ * <p>
+ * Shrinkables from a narrowed generator must still shrink within the original range.
+ * </p>
+ */
+interface NarrowableGenerator<T> extends RandomGenerator<T> {
+
+	/**
+	 * @return a generator for values within {@code min} and {@code max} intersected with this generator's range,
+	 * or {@linkplain Optional#empty()} if narrowing would not cut the range at least in half.
+	 */
+	Optional<RandomGenerator<T>> narrow(long min, long max);
+}
@@ -7,6 +7,19 @@ import net.jqwik.engine.properties.*;
 
 public class RandomDecimalGenerators {
 
+	private static final long MAX_EXACT_DOUBLE_LONG = 1L << 52;
+
+	// All powers of ten that are exactly representable as double
+	private static final double[] POWERS_OF_TEN = new double[23];
+
+	static {
+		double power = 1.0;
+		for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = power;
+			power *= 10;
+		}
+	}
+
 	public static RandomGenerator<BigDecimal> bigDecimals(
 		int genSize,
 		Range<BigDecimal> range,
@@ -32,6 +45,45 @@ public class RandomDecimalGenerators {
 		return scaledBigDecimalGenerator(unscaledBigIntegerGenerator, scale);
 	}
 
+	public static RandomGenerator<Double> doubles(
+		int genSize,
+		Range<BigDecimal> range,
+		int scale,
+		RandomDistribution distribution,
+		BigDecimal shrinkingTarget
+	) {
+		checkRangeIsSound(range, scale);
+
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+
+		if (range.isSingular()) {
+			double value = range.min.doubleValue();
+			return ignored -> Shrinkable.unshrinkable(value);
+		}
+
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(range, scale);
+		BigInteger unscaledShrinkingTarget = unscaledBigInteger(shrinkingTarget, scale);
+		return RandomIntegralGenerators.integralNumbers(
+			genSize,
+			unscaledRange.min,
+			unscaledRange.max,
+			unscaledShrinkingTarget,
+			distribution,
+			unscaled -> unscaledToDouble(unscaled, scale),
+			unscaled -> scaledBigDecimal(unscaled, scale).doubleValue()
+		);
+	}
+
+	// Both operands are exact doubles so the correctly rounded quotient equals BigDecimal.doubleValue()
+	private static double unscaledToDouble(long unscaled, int scale) {
+		if (scale < POWERS_OF_TEN.length && unscaled >= -MAX_EXACT_DOUBLE_LONG && unscaled <= MAX_EXACT_DOUBLE_LONG) {
+			return unscaled / POWERS_OF_TEN[scale];
+		}
+		return scaledBigDecimal(BigInteger.valueOf(unscaled), scale).doubleValue();
+	}
+
 	private static void checkRangeIsSound(Range<BigDecimal> range, int scale) {
 		if (range.minIncluded || range.maxIncluded) {
 			return;
@@ -42,18 +42,40 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Character> chars(char min, char max) {
-		return integers(min, max).map(anInt -> ((char) (int) anInt));
+		BigInteger minBig = BigInteger.valueOf(min);
+		BigInteger maxBig = BigInteger.valueOf(max);
+		return integralNumbers(
+				minBig,
+				maxBig,
+				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+				RandomDistribution.uniform(),
+				value -> (char) value,
+				bigInteger -> (char) bigInteger.intValueExact()
+		);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
 		BigInteger minBig = BigInteger.valueOf(min);
 		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
+		return integralNumbers(
 				minBig,
 				maxBig,
 				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
-				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+				RandomDistribution.uniform(),
+				value -> (int) value,
+				BigInteger::intValueExact
+		);
+	}
+
+	public static <T> RandomGenerator<T> integralNumbers(
+			BigInteger min,
+			BigInteger max,
+			BigInteger shrinkingTarget,
+			RandomDistribution distribution,
+			LongFunction<T> fromLong,
+			Function<BigInteger, T> fromBigInteger
+	) {
+		return RandomIntegralGenerators.integralNumbers(1000, min, max, shrinkingTarget, distribution, fromLong, fromBigInteger);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,6 +38,45 @@ public class RandomIntegralGenerators {
 		};
 	}
 
+	/**
+	 * Values of ranges within {@code long} are generated without creating a BigInteger;
+	 * they are only boxed when the shrinkable's value is requested.
+	 */
+	public static <T> RandomGenerator<T> integralNumbers(
+		int genSize,
+		BigInteger min,
+		BigInteger max,
+		BigInteger shrinkingTarget,
+		RandomDistribution distribution,
+		LongFunction<T> fromLong,
+		Function<BigInteger, T> fromBigInteger
+	) {
+		Range<BigInteger> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		if (range.isSingular()) {
+			T value = fromBigInteger.apply(range.min);
+			return ignored -> Shrinkable.unshrinkable(value);
+		}
+
+		RandomNumericGenerator numericGenerator =
+			distribution.createGenerator(genSize, range.min, range.max, shrinkingTarget);
+
+		if (numericGenerator instanceof LongNumericGenerator) {
+			return new LongRangeGenerator<>((LongNumericGenerator) numericGenerator, range, shrinkingTarget, fromLong);
+		}
+
+		return random -> {
+			BigInteger value = numericGenerator.next(random);
+			return new ShrinkableBigInteger(
+				value,
+				range,
+				shrinkingTarget
+			).map(fromBigInteger);
+		};
+	}
+
 	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
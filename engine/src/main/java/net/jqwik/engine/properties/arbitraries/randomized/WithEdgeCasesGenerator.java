@@ -6,7 +6,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
+class WithEdgeCasesGenerator<T> implements NarrowableGenerator<T> {
 
 	private final RandomGenerator<T> base;
 	private final int baseToEdgeCaseRatio;
@@ -27,6 +27,22 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
+	/**
+	 * A narrowed generator does not inject edge cases any more
+	 */
+	@Override
+	public Optional<RandomGenerator<T>> narrow(long min, long max) {
+		if (base instanceof NarrowableGenerator) {
+			return ((NarrowableGenerator<T>) base).narrow(min, max);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s with edge cases", base);
+	}
+
 	private static <T> RandomGenerator<T> chooseEdgeCase(EdgeCases<T> edgeCases) {
 		final List<Supplier<Shrinkable<T>>> suppliers = edgeCases.suppliers();
 		return random -> RandomGenerators.chooseValue(suppliers, random).get();
@@ -1,12 +1,14 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 
 abstract class AbstractSampleShrinker {
@@ -16,9 +18,19 @@ abstract class AbstractSampleShrinker {
 	}
 
 	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final TryWorkerPool workerPool;
 
 	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+		this(falsificationCache, null);
+	}
+
+	/**
+	 * @param falsificationCache must be thread safe if {@code workerPool} is not null
+	 * @param workerPool         if not null shrink candidates are evaluated in batches of size {@linkplain TryWorkerPool#parallelism()}
+	 */
+	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache, TryWorkerPool workerPool) {
 		this.falsificationCache = falsificationCache;
+		this.workerPool = workerPool;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -44,23 +56,15 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Stream<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+									  .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0);
+
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				workerPool == null
+					? findFalsifiedCandidate(falsifier, candidates, filteredResults, currentDistance)
+					: findBestFalsifiedCandidateInBatches(falsifier, candidates, filteredResults, currentDistance);
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -84,9 +88,93 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFalsifiedCandidate(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		FilteredResults filteredResults,
+		ShrinkingDistance currentDistance
+	) {
+		return candidates.map(shrinkables -> {
+							 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+							 TryExecutionResult result = falsify(falsifier, params);
+							 return Tuple.of(params, shrinkables, result);
+						 })
+						 .peek(t -> rememberInvalidResult(t, filteredResults, currentDistance))
+						 .filter(t -> t.get3().isFalsified())
+						 .findAny();
+	}
+
+	/**
+	 * Candidates are evaluated concurrently in batches. From the first batch with any falsified candidate
+	 * the one with the smallest shrinking distance is chosen.
+	 */
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findBestFalsifiedCandidateInBatches(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		FilteredResults filteredResults,
+		ShrinkingDistance currentDistance
+	) {
+		Iterator<List<Shrinkable<Object>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<Tuple2<List<Object>, List<Shrinkable<Object>>>> batch = new ArrayList<>();
+			List<Future<TryExecutionResult>> batchResults = new ArrayList<>();
+			while (iterator.hasNext() && batch.size() < workerPool.parallelism()) {
+				List<Shrinkable<Object>> shrinkables = iterator.next();
+				// Values are created in this thread since shrinkables are not guaranteed to be thread safe
+				List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+				batch.add(Tuple.of(params, shrinkables));
+				// Each candidate is falsified like a separate try
+				batchResults.add(workerPool.submitTry(new TryScope(), () -> falsify(falsifier, params)));
+			}
+
+			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> bestFalsified = null;
+			for (int i = 0; i < batch.size(); i++) {
+				TryExecutionResult result = workerPool.await(batchResults.get(i));
+				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t =
+					Tuple.of(batch.get(i).get1(), batch.get(i).get2(), result);
+				rememberInvalidResult(t, filteredResults, currentDistance);
+				if (result.isFalsified() && isCloserThan(t, bestFalsified)) {
+					bestFalsified = t;
+				}
+			}
+			if (bestFalsified != null) {
+				return Optional.of(bestFalsified);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean isCloserThan(
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> candidate,
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> currentBest
+	) {
+		if (currentBest == null) {
+			return true;
+		}
+		return calculateDistance(candidate.get2()).compareTo(calculateDistance(currentBest.get2())) < 0;
+	}
+
+	private void rememberInvalidResult(
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t,
+		FilteredResults filteredResults,
+		ShrinkingDistance currentDistance
+	) {
+		// Remember best 10 invalid results in case no  falsified shrink is found
+		if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+			filteredResults.push(t);
+		}
+	}
+
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		TryExecutionResult cachedResult = falsificationCache.get(params);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		// Not using computeIfAbsent() since a concurrent map would block other candidates during falsification
+		TryExecutionResult result = falsifier.execute(params);
+		falsificationCache.putIfAbsent(params, result);
+		return result;
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
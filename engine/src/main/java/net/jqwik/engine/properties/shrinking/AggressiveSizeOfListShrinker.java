@@ -3,8 +3,13 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Cuts are views on the list to shrink which must therefore not be changed afterwards.
+ */
 public class AggressiveSizeOfListShrinker<T> {
 
 	private final int minSize;
@@ -25,20 +30,20 @@ public class AggressiveSizeOfListShrinker<T> {
 	}
 
 	public Stream<List<T>> cutsToMinsize(List<T> toShrink) {
-		Set<List<T>> lists = new HashSet<>();
-		appendLeftCut(toShrink, lists, minSize);
-		appendRightCut(toShrink, lists, minSize);
-		return lists.stream();
+		Set<Tuple2<Integer, Integer>> ranges = new LinkedHashSet<>();
+		appendLeftCut(toShrink, ranges, minSize);
+		appendRightCut(toShrink, ranges, minSize);
+		return views(toShrink, ranges);
 	}
 
 	public Stream<List<T>> cutsToMinsizePlus1(List<T> toShrink) {
 		if (toShrink.size() <= minSize + 1) {
 			return Stream.empty();
 		}
-		Set<List<T>> lists = new HashSet<>();
-		appendLeftCut(toShrink, lists, minSize + 1);
-		appendRightCut(toShrink, lists, minSize + 1);
-		return lists.stream();
+		Set<Tuple2<Integer, Integer>> ranges = new LinkedHashSet<>();
+		appendLeftCut(toShrink, ranges, minSize + 1);
+		appendRightCut(toShrink, ranges, minSize + 1);
+		return views(toShrink, ranges);
 	}
 
 	public Stream<List<T>> cutInHalves(List<T> toShrink) {
@@ -46,21 +51,31 @@ public class AggressiveSizeOfListShrinker<T> {
 		if (halfSize < minSize) {
 			return Stream.empty();
 		}
-		Set<List<T>> lists = new HashSet<>();
-		appendLeftCut(toShrink, lists, halfSize);
-		appendRightCut(toShrink, lists, toShrink.size() - halfSize);
-		return lists.stream();
+		Set<Tuple2<Integer, Integer>> ranges = new LinkedHashSet<>();
+		appendLeftCut(toShrink, ranges, halfSize);
+		appendRightCut(toShrink, ranges, toShrink.size() - halfSize);
+		return views(toShrink, ranges);
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
-		lists.add(cut.subList(0, elementsToKeep));
+	private void appendLeftCut(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges, int elementsToKeep) {
+		addRange(ranges, 0, elementsToKeep);
 	}
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToKeep) {
-		List<T> cut = new ArrayList<>(toShrink);
+	private void appendRightCut(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges, int elementsToKeep) {
 		int elementsToCut = toShrink.size() - elementsToKeep;
-		lists.add(cut.subList(elementsToCut, toShrink.size()));
+		addRange(ranges, elementsToCut, toShrink.size());
 	}
 
+	private Stream<List<T>> views(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges) {
+		return ranges.stream().map(range -> ListViews.range(toShrink, range.get1(), range.get2()));
+	}
+
+	private static void addRange(Set<Tuple2<Integer, Integer>> ranges, int fromIndex, int toIndex) {
+		// All empty ranges lead to the same list
+		if (fromIndex == toIndex) {
+			ranges.add(Tuple.of(0, 0));
+		} else {
+			ranges.add(Tuple.of(fromIndex, toIndex));
+		}
+	}
 }
@@ -9,12 +9,11 @@ public class ComprehensiveSizeOfListShrinker {
 		if (toShrink.size() <= minSize) {
 			return Stream.empty();
 		}
-		Set<List<T>> setOfSequences = new HashSet<>();
-		for (int i = 0; i < toShrink.size(); i++) {
-			ArrayList<T> newCandidate = new ArrayList<>(toShrink);
-			newCandidate.remove(i);
-			setOfSequences.add(newCandidate);
-		}
-		return setOfSequences.stream();
+		// Candidates share a single copy since toShrink might be changed by the caller
+		List<T> base = new ArrayList<>(toShrink);
+		return IntStream.range(0, base.size())
+						// Removing one of several equal neighbours always results in the same list
+						.filter(index -> index == 0 || !Objects.equals(base.get(index), base.get(index - 1)))
+						.mapToObj(index -> ListViews.remove(base, index));
 	}
 }
@@ -0,0 +1,136 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Unmodifiable views that share the elements of an underlying list.
+ * Shrinking candidates of containers are created as views so that creating a candidate
+ * does not depend on the number of elements.
+ *
+ * <p>
+ * Views must only be created on lists that are never modified.
+ * Use {@linkplain #flatten(List)} before deriving views from a list that might itself be a view;
+ * otherwise views would stack up during shrinking.
+ * </p>
+ */
+class ListViews {
+
+	private ListViews() {
+	}
+
+	static <E> List<E> replace(List<E> base, int index, E element) {
+		return new ReplacedView<>(base, index, element, -1, null);
+	}
+
+	static <E> List<E> replace(List<E> base, int firstIndex, E first, int secondIndex, E second) {
+		return new ReplacedView<>(base, firstIndex, first, secondIndex, second);
+	}
+
+	static <E> List<E> remove(List<E> base, int index) {
+		return new RemovedView<>(base, index);
+	}
+
+	static <E> List<E> range(List<E> base, int fromIndex, int toIndex) {
+		return new RangeView<>(base, fromIndex, toIndex);
+	}
+
+	static <E> List<E> flatten(List<E> list) {
+		if (list instanceof View) {
+			return new ArrayList<>(list);
+		}
+		return list;
+	}
+
+	private abstract static class View<E> extends AbstractList<E> implements RandomAccess {
+	}
+
+	private static class ReplacedView<E> extends View<E> {
+		private final List<E> base;
+		private final int firstIndex;
+		private final E first;
+		private final int secondIndex;
+		private final E second;
+
+		private ReplacedView(List<E> base, int firstIndex, E first, int secondIndex, E second) {
+			checkIndex(firstIndex, base.size());
+			if (secondIndex >= 0) {
+				checkIndex(secondIndex, base.size());
+			}
+			this.base = base;
+			this.firstIndex = firstIndex;
+			this.first = first;
+			this.secondIndex = secondIndex;
+			this.second = second;
+		}
+
+		@Override
+		public E get(int index) {
+			if (index == firstIndex) {
+				return first;
+			}
+			if (index == secondIndex) {
+				return second;
+			}
+			return base.get(index);
+		}
+
+		@Override
+		public int size() {
+			return base.size();
+		}
+	}
+
+	private static class RemovedView<E> extends View<E> {
+		private final List<E> base;
+		private final int removedIndex;
+
+		private RemovedView(List<E> base, int removedIndex) {
+			checkIndex(removedIndex, base.size());
+			this.base = base;
+			this.removedIndex = removedIndex;
+		}
+
+		@Override
+		public E get(int index) {
+			checkIndex(index, size());
+			return index < removedIndex ? base.get(index) : base.get(index + 1);
+		}
+
+		@Override
+		public int size() {
+			return base.size() - 1;
+		}
+	}
+
+	private static class RangeView<E> extends View<E> {
+		private final List<E> base;
+		private final int fromIndex;
+		private final int toIndex;
+
+		private RangeView(List<E> base, int fromIndex, int toIndex) {
+			if (fromIndex < 0 || toIndex > base.size() || fromIndex > toIndex) {
+				throw new IndexOutOfBoundsException(String.format("Range [%s, %s) not within size %s", fromIndex, toIndex, base.size()));
+			}
+			this.base = base;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		public E get(int index) {
+			checkIndex(index, size());
+			return base.get(fromIndex + index);
+		}
+
+		@Override
+		public int size() {
+			return toIndex - fromIndex;
+		}
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index %s not within size %s", index, size));
+		}
+	}
+}
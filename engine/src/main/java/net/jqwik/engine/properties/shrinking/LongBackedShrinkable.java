@@ -0,0 +1,104 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Shrinkable for integral values within {@code long} range that only keeps the primitive value.
+ * The value is boxed when {@linkplain #value()} is called; shrinking and growing
+ * are delegated to {@linkplain ShrinkableBigInteger}.
+ *
+ * <p>
+ * The value is not checked against the range since it is only created from
+ * generators and shrinkables that respect the range.
+ * </p>
+ */
+public class LongBackedShrinkable<T> implements Shrinkable<T> {
+
+	private final long value;
+	private final Range<BigInteger> range;
+	private final BigInteger shrinkingTarget;
+	private final LongFunction<T> fromLong;
+
+	public LongBackedShrinkable(long value, Range<BigInteger> range, BigInteger shrinkingTarget, LongFunction<T> fromLong) {
+		this.value = value;
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+		this.fromLong = fromLong;
+	}
+
+	@Override
+	public T value() {
+		return fromLong.apply(value);
+	}
+
+	public long longValue() {
+		return value;
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return asBigIntegerShrinkable().shrink().map(this::fromBigIntegerShrinkable);
+	}
+
+	@Override
+	public Optional<Shrinkable<T>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof LongBackedShrinkable && after instanceof LongBackedShrinkable) {
+			Shrinkable<BigInteger> beforeBigInteger = ((LongBackedShrinkable<?>) before).asBigIntegerShrinkable();
+			Shrinkable<BigInteger> afterBigInteger = ((LongBackedShrinkable<?>) after).asBigIntegerShrinkable();
+			return asBigIntegerShrinkable().grow(beforeBigInteger, afterBigInteger).map(this::fromBigIntegerShrinkable);
+		}
+		return asBigIntegerShrinkable().grow(before, after).map(this::fromBigIntegerShrinkable);
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> grow() {
+		return asBigIntegerShrinkable().grow().map(this::fromBigIntegerShrinkable);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long target = shrinkingTarget.longValue();
+		long difference = value - target;
+		boolean overflow = ((value ^ target) & (value ^ difference)) < 0;
+		if (overflow || difference == Long.MIN_VALUE) {
+			return ShrinkingDistance.of(Long.MAX_VALUE);
+		}
+		return ShrinkingDistance.of(Math.abs(difference));
+	}
+
+	private Shrinkable<BigInteger> asBigIntegerShrinkable() {
+		return new ShrinkableBigInteger(BigInteger.valueOf(value), range, shrinkingTarget);
+	}
+
+	private Shrinkable<T> fromBigIntegerShrinkable(Shrinkable<BigInteger> shrinkable) {
+		return new LongBackedShrinkable<>(shrinkable.value().longValueExact(), range, shrinkingTarget, fromLong);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		LongBackedShrinkable<?> that = (LongBackedShrinkable<?>) o;
+		return value == that.value && Objects.equals(value(), that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<%s>(%s:%s)",
+							 getClass().getSimpleName(),
+							 value().getClass().getSimpleName(),
+							 value(), distance()
+		);
+	}
+}
@@ -6,11 +6,16 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
 	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+		this(falsificationCache, null);
+	}
+
+	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache, TryWorkerPool workerPool) {
+		super(falsificationCache, workerPool);
 	}
 
 	@Override
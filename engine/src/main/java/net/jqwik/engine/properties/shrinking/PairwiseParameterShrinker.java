@@ -6,12 +6,17 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
 	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+		this(falsificationCache, null);
+	}
+
+	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache, TryWorkerPool workerPool) {
+		super(falsificationCache, workerPool);
 	}
 
 	@Override
@@ -11,6 +11,7 @@ import org.junit.platform.engine.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
@@ -22,11 +23,12 @@ public class PropertyShrinker {
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
 	private final int boundedShrinkingSeconds;
+	private final int shrinkingParallelism;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
+	private final Map<List<Object>, TryExecutionResult> falsificationCache = new ConcurrentHashMap<>();
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 
@@ -36,10 +38,22 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, 1, falsifiedSampleReporter, targetMethod);
+	}
+
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
+		this.shrinkingParallelism = shrinkingParallelism;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
 	}
@@ -76,14 +90,31 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
-		if (shrinkingMode == ShrinkingMode.FULL) {
-			fullyShrunkSample = shrinkUntilDone.get();
-		} else {
-			fullyShrunkSample = withTimeout(shrinkUntilDone);
+		TryWorkerPool workerPool = createWorkerPool();
+		try {
+			FalsifiedSample fullyShrunkSample;
+			Supplier<FalsifiedSample> shrinkUntilDone =
+				() -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, workerPool);
+			if (shrinkingMode == ShrinkingMode.FULL) {
+				fullyShrunkSample = shrinkUntilDone.get();
+			} else {
+				fullyShrunkSample = withTimeout(shrinkUntilDone);
+			}
+			return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+		} finally {
+			if (workerPool != null) {
+				workerPool.stopAll();
+			}
 		}
-		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
+	}
+
+	private TryWorkerPool createWorkerPool() {
+		if (shrinkingParallelism <= 1) {
+			return null;
+		}
+		String propertyName = targetMethod == null ? "shrinking" : targetMethod.getName();
+		// Split in the property's thread, so that randomness of shrinking candidates is derived from the property's seed
+		return new TryWorkerPool(propertyName, shrinkingParallelism, SourceOfRandomness.current().split());
 	}
 
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
@@ -104,13 +135,22 @@ public class PropertyShrinker {
 		final Falsifier<List<Object>> falsifier,
 		final Consumer<FalsifiedSample> shrinkSampleConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		return shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, null);
+	}
+
+	private FalsifiedSample shrinkAsLongAsSampleImproves(
+		final Falsifier<List<Object>> falsifier,
+		final Consumer<FalsifiedSample> shrinkSampleConsumer,
+		final Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		final TryWorkerPool workerPool
 	) {
 		FalsifiedSample after = originalSample;
 		FalsifiedSample before;
 		do {
 			before = after;
-			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer);
-			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer);
+			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer, workerPool);
+			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer, workerPool);
 		} while (!after.equals(before));
 		return after;
 	}
@@ -119,9 +159,10 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		TryWorkerPool workerPool
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, workerPool)
 				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
@@ -129,9 +170,11 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		TryWorkerPool workerPool
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, workerPool)
+				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
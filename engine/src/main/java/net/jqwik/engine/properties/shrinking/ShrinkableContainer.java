@@ -15,6 +15,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	// Elements can be a view on another container's elements; they are only copied when needed for shrinking
+	private List<Shrinkable<E>> flatElements = null;
+	private ShrinkingDistance distance = null;
+	private UniquenessTracker<E> uniquenessTracker = null;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
 		this.elements = elements;
 		this.minSize = minSize;
@@ -22,6 +27,47 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		this.uniquenessExtractors = uniquenessExtractors;
 	}
 
+	/**
+	 * Shrinking candidates share their elements with this container through {@linkplain ListViews}.
+	 * Flattening the elements first prevents views from being stacked on top of each other.
+	 */
+	protected List<Shrinkable<E>> flatElements() {
+		if (flatElements == null) {
+			flatElements = ListViews.flatten(elements);
+		}
+		return flatElements;
+	}
+
+	/**
+	 * Counts the features of all element values once so that uniqueness of shrinking candidates
+	 * does not have to be checked against all other elements for each candidate.
+	 */
+	protected UniquenessTracker<E> uniquenessTracker() {
+		if (uniquenessTracker == null) {
+			List<E> values = flatElements().stream().map(Shrinkable::value).collect(Collectors.toList());
+			uniquenessTracker = UniquenessTracker.of(uniquenessExtractors, values);
+		}
+		return uniquenessTracker;
+	}
+
+	protected boolean isUniqueReplacing(Shrinkable<E> replaced, Shrinkable<E> shrunk) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return uniquenessTracker().isUniqueReplacing(replaced.value(), shrunk.value());
+	}
+
+	protected boolean isUniqueReplacing(List<Shrinkable<E>> candidate, Shrinkable<E> replaced1, Shrinkable<E> shrunk1, Shrinkable<E> replaced2, Shrinkable<E> shrunk2) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		UniquenessTracker<E> tracker = uniquenessTracker();
+		if (!tracker.allUnique()) {
+			return checkUniquenessOfShrinkables(uniquenessExtractors, candidate);
+		}
+		return tracker.isUniqueReplacing(replaced1.value(), shrunk1.value(), replaced2.value(), shrunk2.value());
+	}
+
 	private C createValue(List<Shrinkable<E>> shrinkables) {
 		return shrinkables
 					   .stream()
@@ -59,15 +105,14 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	private Stream<Shrinkable<C>> growOneElementAfterTheOther() {
+		List<Shrinkable<E>> base = flatElements();
 		List<Stream<Shrinkable<C>>> growPerElementStreams = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
+		for (int i = 0; i < base.size(); i++) {
 			int index = i;
-			Shrinkable<E> element = elements.get(i);
-			Stream<Shrinkable<C>> shrinkElement = element.grow().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.set(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
-			});
+			Shrinkable<E> element = base.get(i);
+			Stream<Shrinkable<C>> shrinkElement = element.grow().map(
+				grownElement -> createShrinkableReplacing(ListViews.replace(base, index, grownElement), index, grownElement)
+			);
 			growPerElementStreams.add(shrinkElement);
 		}
 		return JqwikStreamSupport.concat(growPerElementStreams);
@@ -99,34 +144,32 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	protected Stream<Shrinkable<C>> shrinkSizeAggressively() {
 		return new AggressiveSizeOfListShrinker<Shrinkable<E>>(minSize)
-					   .shrink(elements)
+					   .shrink(flatElements())
 					   .map(this::createShrinkable)
 					   .sorted(Comparator.comparing(Shrinkable::distance));
 	}
 
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
 		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
-					   .shrink(elements)
+					   .shrink(flatElements())
 					   .map(this::createShrinkable)
 					   .sorted(Comparator.comparing(Shrinkable::distance));
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther(int maxToShrink) {
+		List<Shrinkable<E>> base = flatElements();
 		List<Stream<Shrinkable<C>>> shrinkPerElementStreams = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
+		for (int i = 0; i < base.size(); i++) {
 			if (maxToShrink > 0 && i >= maxToShrink) {
 				break;
 			}
 			int index = i;
-			Shrinkable<E> element = elements.get(i);
+			Shrinkable<E> element = base.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!isUniqueReplacing(element, shrunkElement)) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
-				return Stream.of(createShrinkable(elementsCopy));
+				return Stream.of(createShrinkableReplacing(ListViews.replace(base, index, shrunkElement), index, shrunkElement));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
 		}
@@ -134,16 +177,15 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
+		List<Shrinkable<E>> base = flatElements();
 		return Combinatorics
-					   .distinctPairs(elements.size())
+					   .distinctPairs(base.size())
 					   .flatMap(pair -> JqwikStreamSupport.zip(
-							   elements.get(pair.get1()).shrink(),
-							   elements.get(pair.get2()).shrink(),
+							   base.get(pair.get1()).shrink(),
+							   base.get(pair.get2()).shrink(),
 							   (Shrinkable<E> s1, Shrinkable<E> s2) -> {
-								   List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-								   newElements.set(pair.get1(), s1);
-								   newElements.set(pair.get2(), s2);
-								   if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
+								   List<Shrinkable<E>> newElements = ListViews.replace(base, pair.get1(), s1, pair.get2(), s2);
+								   if (isUniqueReplacing(newElements, base.get(pair.get1()), s1, base.get(pair.get2()), s2)) {
 									   return createShrinkable(newElements);
 								   } else {
 									   // null value will skip the entry in zipped stream
@@ -154,12 +196,16 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	protected Stream<Shrinkable<C>> sortElements() {
-		return ShrinkingCommons.sortElements(elements, this::createShrinkable);
+		return ShrinkingCommons.sortElements(flatElements(), this::createShrinkable);
 	}
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		// Distance is used for sorting candidates and can be expensive for large containers
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
 	}
 
 	@Override
@@ -187,6 +233,14 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements);
 
+	/**
+	 * Override if the value of a container that differs from this one in a single element
+	 * can be created more cheaply than from all of its elements.
+	 */
+	Shrinkable<C> createShrinkableReplacing(List<Shrinkable<E>> shrunkElements, int index, Shrinkable<E> replacement) {
+		return createShrinkable(shrunkElements);
+	}
+
 	abstract Collector<E, ?, C> containerCollector();
 
 }
@@ -7,8 +7,6 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 
 	// Only used in tests
@@ -42,13 +40,14 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	// TODO: Simplify and clean up
 	private Stream<Shrinkable<List<E>>> moveIndividualValuesTowardsEnd() {
 		ShrinkingDistance distance = distance();
+		List<Shrinkable<E>> base = flatElements();
 		return Combinatorics
-					   .distinctPairs(elements.size())
+					   .distinctPairs(base.size())
 					   .map(pair -> {
 						   int firstIndex = Math.min(pair.get1(), pair.get2());
 						   int secondIndex = Math.max(pair.get1(), pair.get2());
-						   Shrinkable<E> first = elements.get(firstIndex);
-						   Shrinkable<E> second = elements.get(secondIndex);
+						   Shrinkable<E> first = base.get(firstIndex);
+						   Shrinkable<E> second = base.get(secondIndex);
 						   return Tuple.of(firstIndex, first, secondIndex, second);
 					   })
 					   .filter(quadruple -> quadruple.get2().compareTo(quadruple.get4()) <= 0)
@@ -63,13 +62,12 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
-									   .map(tuple -> {
-										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
-										   pairMove.set(firstIndex, tuple.get1());
-										   pairMove.set(secondIndex, tuple.get2().get());
-										   return pairMove;
-									   })
-									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
+									   .map(tuple -> ListViews.replace(base, firstIndex, tuple.get1(), secondIndex, tuple.get2().get()))
+									   .filter(shrinkables -> isUniqueReplacing(
+										   shrinkables,
+										   first, shrinkables.get(firstIndex),
+										   second, shrinkables.get(secondIndex)
+									   ))
 									   .map(this::createShrinkable);
 
 					   })
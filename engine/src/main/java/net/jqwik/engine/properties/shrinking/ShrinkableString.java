@@ -9,8 +9,33 @@ import net.jqwik.engine.support.*;
 
 public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
+	// Strings are immutable so the value can be created once and be shared with shrinking candidates
+	private String value = null;
+
 	public ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize) {
+		this(elements, minSize, maxSize, null);
+	}
+
+	private ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize, String value) {
 		super(elements, minSize, maxSize, Collections.emptySet());
+		this.value = value;
+	}
+
+	@Override
+	public String value() {
+		if (value == null) {
+			value = createValue();
+		}
+		return value;
+	}
+
+	private String createValue() {
+		char[] chars = new char[elements.size()];
+		int index = 0;
+		for (Shrinkable<Character> element : elements) {
+			chars[index++] = element.value();
+		}
+		return new String(chars);
 	}
 
 	@Override
@@ -23,6 +48,17 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 		return new ShrinkableString(shrunkElements, minSize, maxSize);
 	}
 
+	@Override
+	Shrinkable<String> createShrinkableReplacing(
+		List<Shrinkable<Character>> shrunkElements,
+		int index,
+		Shrinkable<Character> replacement
+	) {
+		char[] chars = value().toCharArray();
+		chars[index] = replacement.value();
+		return new ShrinkableString(shrunkElements, minSize, maxSize, new String(chars));
+	}
+
 	@Override
 	public Stream<Shrinkable<String>> shrink() {
 		if (elements.size() > 100) {
@@ -40,6 +76,12 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 		);
 	}
 
+	@Override
+	public int hashCode() {
+		// Consistent with equals() which compares values
+		return value().hashCode();
+	}
+
 	private static class CharacterCollector implements Collector<Character, StringBuilder, String> {
 		@Override
 		public Supplier<StringBuilder> supplier() {
@@ -15,13 +15,14 @@ class ShrinkingCommons {
 	/**
 	 * Sort elements of container pairwise
 	 *
-	 * @param elements        Unsorted elements
-	 * @param createContainer function to create shrinkable container
-	 * @param <C>             type of container
-	 * @param <E>             type of elements
+	 * @param unsortedElements Unsorted elements
+	 * @param createContainer  function to create shrinkable container
+	 * @param <C>              type of container
+	 * @param <E>              type of elements
 	 * @return stream of shrunk containers
 	 */
-	static <C, E> Stream<Shrinkable<C>> sortElements(List<Shrinkable<E>> elements, ContainerCreator<C, E> createContainer) {
+	static <C, E> Stream<Shrinkable<C>> sortElements(List<Shrinkable<E>> unsortedElements, ContainerCreator<C, E> createContainer) {
+		List<Shrinkable<E>> elements = ListViews.flatten(unsortedElements);
 		List<Shrinkable<E>> sortedElements = new ArrayList<>(elements);
 		sortedElements.sort(Comparator.comparing(Shrinkable::distance));
 		if (elements.equals(sortedElements)) {
@@ -48,9 +49,11 @@ class ShrinkingCommons {
 							})
 							.filter(quadruple -> quadruple.get2().compareTo(quadruple.get4()) > 0)
 							.map(quadruple -> {
-								List<Shrinkable<E>> pairSwap = new ArrayList<>(elements);
-								pairSwap.set(quadruple.get1(), quadruple.get4());
-								pairSwap.set(quadruple.get3(), quadruple.get2());
+								List<Shrinkable<E>> pairSwap = ListViews.replace(
+									elements,
+									quadruple.get1(), quadruple.get4(),
+									quadruple.get3(), quadruple.get2()
+								);
 								return createContainer.apply(pairSwap);
 							});
 	}
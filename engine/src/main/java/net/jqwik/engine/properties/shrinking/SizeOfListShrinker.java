@@ -3,6 +3,8 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.support.*;
 
 public class SizeOfListShrinker<T> {
@@ -24,33 +26,52 @@ public class SizeOfListShrinker<T> {
 
 	private Stream<List<T>> emptyList() {
 		if (minSize == 0) {
-			return Stream.of(new ArrayList<>());
+			return Stream.of(Collections.emptyList());
 		} else {
 			return Stream.empty();
 		}
 	}
 
+	/**
+	 * Cuts are views on {@code toShrink} which must therefore not be changed afterwards.
+	 * Cuts from the right come before cuts from the left. Cuts with equal elements are only returned once.
+	 */
 	public Stream<List<T>> cuts(List<T> toShrink) {
-		Set<List<T>> lists = new HashSet<>();
-		appendRightCuts(toShrink, lists);
-		appendLeftCuts(toShrink, lists);
-		return lists.stream();
+		// Ranges [from, to) of elements to keep
+		Set<Tuple2<Integer, Integer>> ranges = new LinkedHashSet<>();
+		appendRightCuts(toShrink, ranges);
+		appendLeftCuts(toShrink, ranges);
+
+		List<List<T>> cuts = new ArrayList<>(ranges.size());
+		for (Tuple2<Integer, Integer> range : ranges) {
+			List<T> cut = ListViews.range(toShrink, range.get1(), range.get2());
+			if (!containsEqualCut(cuts, cut)) {
+				cuts.add(cut);
+			}
+		}
+		return cuts.stream();
 	}
 
-	private void appendLeftCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendLeftCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendLeftCut(toShrink, lists, 1);
+	// Different ranges have equal elements if toShrink repeats itself, e.g. [x, x]
+	private boolean containsEqualCut(List<List<T>> cuts, List<T> cut) {
+		for (List<T> existing : cuts) {
+			if (existing.size() == cut.size() && existing.equals(cut)) {
+				return true;
+			}
 		}
+		return false;
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromLeft(toShrink, elementsToCut)));
+	private void appendLeftCuts(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges) {
+		int elementsToCut = calculateElementsToCut(toShrink.size());
+		appendLeftCut(toShrink, ranges, elementsToCut);
+		if (elementsToCut != 1) {
+			appendLeftCut(toShrink, ranges, 1);
+		}
 	}
 
-	private List<T> cutFromLeft(List<T> toShrink, int elementsToCut) {
-		return toShrink.subList(elementsToCut, toShrink.size());
+	private void appendLeftCut(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges, int elementsToCut) {
+		addRange(ranges, elementsToCut, toShrink.size());
 	}
 
 	private int calculateElementsToCut(int listSize) {
@@ -68,19 +89,24 @@ public class SizeOfListShrinker<T> {
 		return listSize / 2;
 	}
 
-	private void appendRightCuts(List<T> toShrink, Set<List<T>> lists) {
+	private void appendRightCuts(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges) {
 		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendRightCut(toShrink, lists, elementsToCut);
+		appendRightCut(toShrink, ranges, elementsToCut);
 		if (elementsToCut != 1) {
-			appendRightCut(toShrink, lists, 1);
+			appendRightCut(toShrink, ranges, 1);
 		}
 	}
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		lists.add(new ArrayList<>(cutFromRight(toShrink, elementsToCut)));
+	private void appendRightCut(List<T> toShrink, Set<Tuple2<Integer, Integer>> ranges, int elementsToCut) {
+		addRange(ranges, 0, toShrink.size() - elementsToCut);
 	}
 
-	private List<T> cutFromRight(List<T> toShrink, int elementsToCut) {
-		return toShrink.subList(0, toShrink.size() - elementsToCut);
+	private static void addRange(Set<Tuple2<Integer, Integer>> ranges, int fromIndex, int toIndex) {
+		// All empty ranges lead to the same list
+		if (fromIndex == toIndex) {
+			ranges.add(Tuple.of(0, 0));
+		} else {
+			ranges.add(Tuple.of(fromIndex, toIndex));
+		}
 	}
 }
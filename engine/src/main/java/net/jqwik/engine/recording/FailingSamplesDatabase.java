@@ -0,0 +1,189 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Keeps the shrunk falsifying samples of failed properties until a later run of the property succeeds.
+ * Other than the sample stored with a {@linkplain TestRun} the samples are kept for several failures
+ * and are meant to be replayed before any random generation happens.
+ *
+ * <pre>
+ * file     := magic:int version:short property*
+ * property := uniqueId:utf count:int (length:int sample:byte*){count}
+ * </pre>
+ */
+class FailingSamplesDatabase {
+
+	private static final Logger LOG = Logger.getLogger(FailingSamplesDatabase.class.getName());
+
+	static final int MAGIC = 0x6A717773; // "jqws"
+	static final short VERSION = 1;
+
+	static final int MAX_SAMPLES_PER_PROPERTY = 10;
+
+	static Path samplesPathFor(Path databasePath) {
+		return databasePath.resolveSibling(databasePath.getFileName() + ".samples");
+	}
+
+	private final Path samplesPath;
+
+	// Serialized samples per unique id, most recent sample last
+	private final Map<String, List<byte[]>> samples = new LinkedHashMap<>();
+
+	// Serialized samples as loaded from file, deserialized only on request
+	private final Map<String, List<byte[]>> previousSamples = new HashMap<>();
+	private boolean changed = false;
+
+	FailingSamplesDatabase(Path samplesPath) {
+		this.samplesPath = samplesPath;
+		load();
+		samples.forEach((uniqueId, propertySamples) -> previousSamples.put(uniqueId, new ArrayList<>(propertySamples)));
+	}
+
+	private void load() {
+		if (!Files.exists(samplesPath)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(samplesPath)))) {
+			long fileSize = Files.size(samplesPath);
+			readHeader(in);
+			while (true) {
+				String uniqueId;
+				try {
+					uniqueId = in.readUTF();
+				} catch (EOFException eof) {
+					break;
+				}
+				int count = checkLength(in.readInt(), fileSize);
+				List<byte[]> propertySamples = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					byte[] sample = new byte[checkLength(in.readInt(), fileSize)];
+					in.readFully(sample);
+					propertySamples.add(sample);
+				}
+				samples.put(uniqueId, propertySamples);
+			}
+		} catch (Exception e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read failing samples [%s]", samplesPath.toAbsolutePath()));
+			samples.clear();
+			changed = true;
+		}
+	}
+
+	private int checkLength(int length, long fileSize) throws IOException {
+		if (length < 0 || length > fileSize) {
+			throw new IOException(String.format("Invalid length [%s] in failing samples", length));
+		}
+		return length;
+	}
+
+	private void readHeader(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+			throw new IOException("Failing samples have unknown format");
+		}
+	}
+
+	/**
+	 * The samples stored by previous runs. They are deserialized with each call.
+	 * Samples that can no longer be deserialized, e.g. because a class has changed, are skipped.
+	 */
+	List<List<Object>> previousSamplesFor(String uniqueId) {
+		List<List<Object>> deserialized = new ArrayList<>();
+		for (byte[] sample : previousSamples.getOrDefault(uniqueId, Collections.emptyList())) {
+			try {
+				deserialized.add(TestRunFormat.deserializeSample(sample));
+			} catch (Exception e) {
+				LOG.log(Level.INFO, e, () -> String.format("Cannot read failing sample of [%s]", uniqueId));
+			}
+		}
+		return deserialized;
+	}
+
+	void update(TestRun testRun) {
+		String uniqueId = testRun.uniqueIdString();
+		if (testRun.getStatus() == Status.SUCCESSFUL) {
+			if (samples.remove(uniqueId) != null) {
+				changed = true;
+			}
+			return;
+		}
+		if (testRun.getStatus() != Status.FAILED) {
+			return;
+		}
+		testRun.falsifiedSample().ifPresent(sample -> addSample(uniqueId, sample));
+	}
+
+	private void addSample(String uniqueId, List<Object> sample) {
+		byte[] serialized;
+		try {
+			serialized = TestRunFormat.serializeSample(sample);
+		} catch (IOException notSerializable) {
+			return;
+		}
+		List<byte[]> propertySamples = samples.computeIfAbsent(uniqueId, ignore -> new ArrayList<>());
+		propertySamples.removeIf(existing -> Arrays.equals(existing, serialized));
+		propertySamples.add(serialized);
+		while (propertySamples.size() > MAX_SAMPLES_PER_PROPERTY) {
+			propertySamples.remove(0);
+		}
+		changed = true;
+	}
+
+	void write() {
+		if (!changed) {
+			return;
+		}
+		try {
+			if (samples.isEmpty()) {
+				Files.deleteIfExists(samplesPath);
+			} else {
+				writeAll();
+			}
+			changed = false;
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write failing samples [%s]", samplesPath.toAbsolutePath()));
+		}
+	}
+
+	/**
+	 * Write to a new file and replace the existing one so that an interrupted write cannot corrupt stored samples.
+	 */
+	private void writeAll() throws IOException {
+		Path parent = samplesPath.toAbsolutePath().getParent();
+		Path tempFile = Files.createTempFile(parent, samplesPath.getFileName().toString(), ".tmp");
+		try {
+			writeAll(tempFile);
+			moveReplacing(tempFile, samplesPath);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException notSupported) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private void writeAll(Path path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			for (Map.Entry<String, List<byte[]>> entry : samples.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().size());
+				for (byte[] sample : entry.getValue()) {
+					out.writeInt(sample.length);
+					out.write(sample);
+				}
+			}
+		}
+	}
+}
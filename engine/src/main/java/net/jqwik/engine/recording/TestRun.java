@@ -1,30 +1,80 @@
 package net.jqwik.engine.recording;
 
-import java.io.*;
 import java.util.*;
+import java.util.logging.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.support.*;
+
+public class TestRun {
+
+	private static final Logger LOG = Logger.getLogger(TestRun.class.getName());
 
-public class TestRun implements Serializable {
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final String randomSeed;
-	private final List<Object> falsifiedSample;
+	private final byte[] serializedSample;
+	private volatile List<Object> falsifiedSample;
+	private final Long exhaustiveCheckpoint;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
-		this.statusOrdinal = status.ordinal();
+		this(uniqueId, status, randomSeed, falsifiedSample, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Long exhaustiveCheckpoint
+	) {
+		this(uniqueId.toString(), status.ordinal(), randomSeed, null, falsifiedSample, exhaustiveCheckpoint);
+	}
+
+	private TestRun(
+		String uniqueIdString,
+		int statusOrdinal,
+		String randomSeed,
+		byte[] serializedSample,
+		List<Object> falsifiedSample,
+		Long exhaustiveCheckpoint
+	) {
+		this.uniqueIdString = uniqueIdString;
+		this.statusOrdinal = statusOrdinal;
 		this.randomSeed = randomSeed;
+		this.serializedSample = serializedSample;
 		this.falsifiedSample = falsifiedSample;
+		this.exhaustiveCheckpoint = exhaustiveCheckpoint;
+	}
+
+	/**
+	 * Used when reading from database. The sample is only deserialized when it is first accessed.
+	 */
+	static TestRun fromRecord(
+		String uniqueIdString,
+		int statusOrdinal,
+		String randomSeed,
+		byte[] serializedSample,
+		Long exhaustiveCheckpoint
+	) {
+		return new TestRun(uniqueIdString, statusOrdinal, randomSeed, serializedSample, null, exhaustiveCheckpoint);
 	}
 
 	boolean hasUniqueId(UniqueId uniqueId) {
 		return getUniqueId().equals(uniqueId);
 	}
 
+	String uniqueIdString() {
+		return uniqueIdString;
+	}
+
+	int statusOrdinal() {
+		return statusOrdinal;
+	}
+
 	public boolean isNotSuccessful() {
 		return getStatus() != Status.SUCCESSFUL;
 	}
@@ -42,9 +92,30 @@ public class TestRun implements Serializable {
 	}
 
 	public Optional<List<Object>> falsifiedSample() {
+		if (falsifiedSample == null && serializedSample != null) {
+			falsifiedSample = deserializeSample();
+		}
 		return Optional.ofNullable(falsifiedSample);
 	}
 
+	/**
+	 * The position in the space of exhaustively generated samples at which the next run should continue
+	 */
+	public Optional<Long> exhaustiveCheckpoint() {
+		return Optional.ofNullable(exhaustiveCheckpoint);
+	}
+
+	private List<Object> deserializeSample() {
+		try {
+			return TestRunFormat.deserializeSample(serializedSample);
+		} catch (Throwable throwable) {
+			// A sample that cannot be read any longer - e.g. due to a changed class - must not stop the test run
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			LOG.log(Level.INFO, throwable, () -> String.format("Cannot read falsified sample of [%s]", uniqueIdString));
+			return null;
+		}
+	}
+
 	@Override
 	public String toString() {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
@@ -52,6 +123,6 @@ public class TestRun implements Serializable {
 	}
 
 	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
+		return new TestRun(uniqueIdString, statusOrdinal, randomSeed, null, null, exhaustiveCheckpoint);
 	}
 }
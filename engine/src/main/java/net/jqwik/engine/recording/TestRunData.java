@@ -1,43 +1,44 @@
 package net.jqwik.engine.recording;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
-import net.jqwik.engine.support.*;
-
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	private final Map<String, TestRun> data = new LinkedHashMap<>();
+	private Function<String, List<List<Object>>> failingSamples = ignore -> Collections.emptyList();
 
-	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+	public TestRunData(Collection<TestRun> testRuns) {
+		testRuns.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
+		this(Collections.emptyList());
 	}
 
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		data.put(testRun.uniqueIdString(), testRun);
+	}
+
+	void useFailingSamples(Function<String, List<List<Object>>> failingSamplesByUniqueId) {
+		this.failingSamples = failingSamplesByUniqueId;
+	}
+
+	/**
+	 * Falsified samples of previous runs that have not been shown to succeed since.
+	 */
+	public List<List<Object>> failingSamples(UniqueId uniqueId) {
+		return failingSamples.apply(uniqueId.toString());
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			JqwikExceptionSupport.rethrowIfBlacklisted(t);
-			return Optional.empty();
-		}
+		return Optional.ofNullable(data.get(uniqueId.toString()));
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream().filter(TestRun::isNotSuccessful);
 	}
 }
@@ -5,56 +5,76 @@ import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
 
+/**
+ * Test runs are appended to the database file one record per property.
+ * When the file contains too many outdated records it is compacted at the end of a run.
+ *
+ * @see TestRunFormat
+ */
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	// Compact if there are more than this number of outdated records per current record
+	private static final int MAX_OUTDATED_RECORDS_RATIO = 2;
+
 	private final Path databasePath;
+	private final FailingSamplesDatabase failingSamplesDatabase;
 	private final TestRunData previousRunData;
+
+	// Latest record per unique id, used for compaction
+	private final Map<String, byte[]> latestRecords = new LinkedHashMap<>();
+	private int recordsInFile = 0;
+	private boolean fileNeedsRewrite = false;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
 		this.databasePath = databasePath;
+		this.failingSamplesDatabase = new FailingSamplesDatabase(FailingSamplesDatabase.samplesPathFor(databasePath));
 		this.previousRunData = loadExistingRunData();
+		// Samples are deserialized only when a property's configuration is resolved
+		previousRunData.useFailingSamples(failingSamplesDatabase::previousSamplesFor);
 	}
 
 	private TestRunData loadExistingRunData() {
 		if (!Files.exists(databasePath)) {
+			fileNeedsRewrite = true;
 			return new TestRunData();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try (DataInputStream in = createDataInputStream()) {
+			TestRunFormat.readHeader(in);
+			return new TestRunData(readAllTestRuns(in, Files.size(databasePath) - TestRunFormat.HEADER_SIZE));
 		} catch (Exception e) {
 			logReadException(e);
-			deleteDatabase();
+			latestRecords.clear();
+			recordsInFile = 0;
+			fileNeedsRewrite = true;
 			return new TestRunData();
 		}
 	}
 
-	private void deleteDatabase() {
-		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
-		}
-	}
-
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
+	private List<TestRun> readAllTestRuns(DataInputStream in, long remainingBytes) throws IOException {
+		Map<String, TestRun> testRuns = new LinkedHashMap<>();
 		while (true) {
+			byte[] record;
 			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
+				record = TestRunFormat.readRecord(in, remainingBytes);
+			} catch (EOFException truncatedRecord) {
+				// Last run was probably interrupted while writing. Further records cannot be appended to a truncated file.
+				fileNeedsRewrite = true;
 				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
+			}
+			if (record == null) {
 				break;
 			}
+			remainingBytes -= TestRunFormat.recordSize(record);
+			TestRun testRun = TestRunFormat.fromRecord(record);
+			testRuns.put(testRun.uniqueIdString(), testRun);
+			latestRecords.put(testRun.uniqueIdString(), record);
+			recordsInFile++;
 		}
-		return testRuns;
+		return new ArrayList<>(testRuns.values());
 	}
 
 	private void logReadException(Exception eof) {
@@ -65,9 +85,14 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private DataOutputStream createAppendingOutputStream() {
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			if (fileNeedsRewrite) {
+				rewriteDatabase();
+			}
+			return new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+			));
 		} catch (IOException e) {
 			stopRecording = true;
 			logWriteException(e);
@@ -75,20 +100,53 @@ public class TestRunDatabase {
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private DataInputStream createDataInputStream() throws IOException {
+		return new DataInputStream(new BufferedInputStream(Files.newInputStream(databasePath)));
+	}
+
+	/**
+	 * Write all latest records to a new file and replace the existing database with it.
+	 */
+	private void rewriteDatabase() throws IOException {
+		Path parent = databasePath.toAbsolutePath().getParent();
+		Path tempFile = Files.createTempFile(parent, databasePath.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				TestRunFormat.writeHeader(out);
+				for (byte[] record : latestRecords.values()) {
+					TestRunFormat.writeRecord(out, record);
+				}
+			}
+			moveReplacing(tempFile, databasePath);
+			recordsInFile = latestRecords.size();
+			fileNeedsRewrite = false;
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException notSupported) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private boolean needsCompaction() {
+		return recordsInFile > latestRecords.size() * (MAX_OUTDATED_RECORDS_RATIO + 1);
 	}
 
 	private class Recorder implements TestRunRecorder {
 
-		private final ObjectOutputStream objectOutputStream;
+		private final DataOutputStream outputStream;
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private Recorder(DataOutputStream outputStream) {
+			this.outputStream = outputStream;
 		}
 
 		@Override
-		public void record(TestRun testRun) {
+		public synchronized void record(TestRun testRun) {
 			record(testRun, false);
 		}
 
@@ -96,9 +154,15 @@ public class TestRunDatabase {
 			if (stopRecording)
 				return;
 			try {
-				checkSerializability(testRun);
-				objectOutputStream.writeObject(testRun);
-			} catch (NotSerializableException e) {
+				byte[] record = TestRunFormat.toRecord(testRun);
+				TestRunFormat.writeRecord(outputStream, record);
+				// Flush per record so that an interrupted run loses at most the record being written
+				outputStream.flush();
+				latestRecords.put(testRun.uniqueIdString(), record);
+				recordsInFile++;
+				failingSamplesDatabase.update(testRun);
+			} catch (ObjectStreamException e) {
+				// Sample cannot be serialized
 				if (!secondTry) {
 					record(testRun.withoutFalsifiedSample(), true);
 				} else {
@@ -110,15 +174,16 @@ public class TestRunDatabase {
 			}
 		}
 
-		private void checkSerializability(TestRun testRun) throws IOException {
-			ObjectOutputStream testStream = new ObjectOutputStream(new ByteArrayOutputStream());
-			testStream.writeObject(testRun);
-		}
-
 		@Override
-		public void close() {
+		public synchronized void close() {
+			failingSamplesDatabase.write();
 			try {
-				objectOutputStream.close();
+				if (outputStream != null) {
+					outputStream.close();
+				}
+				if (!stopRecording && needsCompaction()) {
+					rewriteDatabase();
+				}
 			} catch (IOException e) {
 				logWriteException(e);
 			}
@@ -131,6 +196,6 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder(createAppendingOutputStream());
 	}
 }
@@ -0,0 +1,150 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Binary format of the test run database:
+ *
+ * <pre>
+ * file   := header record*
+ * header := magic:int version:short
+ * record := length:int uniqueId:utf status:byte hasSeed:boolean [seed:utf] sampleLength:int [sample:byte*]
+ *           hasCheckpoint:boolean [exhaustiveCheckpoint:long]
+ * </pre>
+ *
+ * A sampleLength of -1 means that no sample has been recorded.
+ * Lengths are checked against the number of bytes available before anything is allocated,
+ * so that a corrupt database is reported as unreadable instead of exhausting memory.
+ * The sample itself is stored using Java serialization since sample values can be of any serializable type.
+ * Records are only appended; a later record for the same unique id replaces any earlier one.
+ */
+class TestRunFormat {
+
+	static final int MAGIC = 0x6A717764; // "jqwd"
+	static final short VERSION = 2;
+
+	static final int HEADER_SIZE = 6;
+	private static final int RECORD_LENGTH_SIZE = 4;
+
+	private static final int NO_SAMPLE = -1;
+
+	private TestRunFormat() {
+	}
+
+	static void writeHeader(DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+	}
+
+	static void readHeader(DataInput in) throws IOException {
+		int magic = in.readInt();
+		if (magic != MAGIC) {
+			throw new IOException("Database has unknown format");
+		}
+		short version = in.readShort();
+		if (version != VERSION) {
+			String message = String.format("Database has version [%s] instead of [%s]", version, VERSION);
+			throw new IOException(message);
+		}
+	}
+
+	/**
+	 * @throws ObjectStreamException if the test run's sample cannot be serialized
+	 */
+	static byte[] toRecord(TestRun testRun) throws IOException {
+		byte[] sample = testRun.falsifiedSample().isPresent() ? serializeSample(testRun.falsifiedSample().get()) : null;
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(testRun.uniqueIdString());
+			out.writeByte(testRun.statusOrdinal());
+			Optional<String> seed = testRun.randomSeed();
+			out.writeBoolean(seed.isPresent());
+			if (seed.isPresent()) {
+				out.writeUTF(seed.get());
+			}
+			if (sample == null) {
+				out.writeInt(NO_SAMPLE);
+			} else {
+				out.writeInt(sample.length);
+				out.write(sample);
+			}
+			Optional<Long> checkpoint = testRun.exhaustiveCheckpoint();
+			out.writeBoolean(checkpoint.isPresent());
+			if (checkpoint.isPresent()) {
+				out.writeLong(checkpoint.get());
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	static TestRun fromRecord(byte[] record) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		String uniqueId = in.readUTF();
+		int statusOrdinal = in.readByte();
+		String seed = in.readBoolean() ? in.readUTF() : null;
+		int sampleLength = in.readInt();
+		byte[] sample = null;
+		if (sampleLength != NO_SAMPLE) {
+			checkLength(sampleLength, in.available());
+			sample = new byte[sampleLength];
+			in.readFully(sample);
+		}
+		Long checkpoint = in.readBoolean() ? in.readLong() : null;
+		return TestRun.fromRecord(uniqueId, statusOrdinal, seed, sample, checkpoint);
+	}
+
+	static void writeRecord(DataOutput out, byte[] record) throws IOException {
+		out.writeInt(record.length);
+		out.write(record);
+	}
+
+	/**
+	 * @param remainingBytes the number of bytes left to read including the record's length
+	 * @return null if there is no further record
+	 * @throws EOFException if the record is longer than the remaining bytes, i.e. the record is truncated
+	 */
+	static byte[] readRecord(DataInput in, long remainingBytes) throws IOException {
+		int length;
+		try {
+			length = in.readInt();
+		} catch (EOFException eof) {
+			return null;
+		}
+		if (length < 0) {
+			throw new IOException(String.format("Invalid record length [%s]", length));
+		}
+		if (length > remainingBytes - RECORD_LENGTH_SIZE) {
+			throw new EOFException(String.format("Record of length [%s] is truncated", length));
+		}
+		byte[] record = new byte[length];
+		in.readFully(record);
+		return record;
+	}
+
+	static long recordSize(byte[] record) {
+		return RECORD_LENGTH_SIZE + record.length;
+	}
+
+	private static void checkLength(int length, long availableBytes) throws IOException {
+		if (length < 0 || length > availableBytes) {
+			String message = String.format("Invalid length [%s] with only [%s] bytes available", length, availableBytes);
+			throw new IOException(message);
+		}
+	}
+
+	static byte[] serializeSample(List<Object> sample) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(new ArrayList<>(sample));
+		}
+		return bytes.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	static List<Object> deserializeSample(byte[] sample) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(sample))) {
+			return (List<Object>) in.readObject();
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+import java.time.format.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+public class JqwikDurationSupport {
+
+	private static final Pattern NUMBER_WITH_UNIT = Pattern.compile("(\\d+)\\s*(ms|s|m|h)");
+
+	/**
+	 * Parse durations like {@code "500ms"}, {@code "30s"}, {@code "2m"}, {@code "1h"}
+	 * or ISO-8601 durations like {@code "PT30S"}.
+	 */
+	public static Duration parseDuration(String durationString) {
+		try {
+			return parse(durationString.trim());
+		} catch (DateTimeParseException | NumberFormatException | ArithmeticException invalidDuration) {
+			String message = String.format(
+				"Duration [%s] cannot be parsed. Use number and unit (ms, s, m, h) like \"30s\" or ISO-8601 like \"PT30S\".",
+				durationString
+			);
+			throw new JqwikException(message);
+		}
+	}
+
+	private static Duration parse(String trimmed) {
+		Matcher matcher = NUMBER_WITH_UNIT.matcher(trimmed);
+		if (matcher.matches()) {
+			long amount = Long.parseLong(matcher.group(1));
+			switch (matcher.group(2)) {
+				case "ms":
+					return Duration.ofMillis(amount);
+				case "s":
+					return Duration.ofSeconds(amount);
+				case "m":
+					return Duration.ofMinutes(amount);
+				default:
+					return Duration.ofHours(amount);
+			}
+		}
+		return Duration.parse(trimmed);
+	}
+}
@@ -33,4 +33,13 @@ public class MathSupport {
 		return b;
 	}
 
+	/**
+	 * Finalizer of SplitMix64. Spreads the bits of similar values over the whole long.
+	 */
+	public static long mix64(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+
 }
@@ -124,6 +124,29 @@ class FunctionsTests {
 		assertThat(function.hello()).isEqualTo("hello");
 	}
 
+	@Example
+	void many_functions_of_public_and_non_public_interfaces_can_be_generated(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10000);
+		Arbitrary<MyFunctionalInterface<String, String, Integer>> publicFunctions =
+			Functions.function(MyFunctionalInterface.class).returns(integers);
+		Arbitrary<MySamType<String, String, Integer>> nonPublicFunctions =
+			Functions.function(MySamType.class).returns(integers);
+		RandomGenerator<MyFunctionalInterface<String, String, Integer>> publicGenerator = publicFunctions.generator(10, true);
+		RandomGenerator<MySamType<String, String, Integer>> nonPublicGenerator = nonPublicFunctions.generator(10, true);
+
+		for (int i = 0; i < 100; i++) {
+			MyFunctionalInterface<String, String, Integer> publicFunction = publicGenerator.next(random).value();
+			assertThat(publicFunction.take("a", "b")).isBetween(1, 10000);
+			assertThat(publicFunction.take("a", "b")).isEqualTo(publicFunction.take("a", "b"));
+			assertThat(publicFunction.hello()).isEqualTo("hello");
+			assertThat(publicFunction.toString()).startsWith("Function<MyFunctionalInterface>");
+
+			MySamType<String, String, Integer> nonPublicFunction = nonPublicGenerator.next(random).value();
+			assertThat(nonPublicFunction.take("a", "b")).isBetween(1, 10000);
+			assertThat(nonPublicFunction.toString()).startsWith("Function<MySamType>");
+		}
+	}
+
 	@Example
 	void null_value_is_accepted_as_input() {
 		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
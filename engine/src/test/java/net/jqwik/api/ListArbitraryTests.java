@@ -129,6 +129,16 @@ class ListArbitraryTests {
 		Assertions.assertThrows(TooManyFilterMissesException.class, () -> generator.next(random));
 	}
 
+	@Example
+	void largeListWithUniqueElements(@ForAll Random random) {
+		ListArbitrary<Integer> listArbitrary =
+			Arbitraries.integers().between(1, 1_000_000).list().ofSize(5000).uniqueElements();
+
+		List<Integer> list = listArbitrary.generator(1000, true).next(random).value();
+
+		assertThat(new HashSet<>(list)).hasSize(5000);
+	}
+
 	@Example
 	void uniquenessElements(@ForAll Random random) {
 		ListArbitrary<Integer> listArbitrary =
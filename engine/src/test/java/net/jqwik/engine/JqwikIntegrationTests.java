@@ -17,6 +17,8 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.testing.*;
@@ -55,6 +57,11 @@ class JqwikIntegrationTests {
 						return Collections.emptySet();
 					}
 
+					@Override
+					public DiscoveryIndex discoveryIndex() {
+						return DiscoveryIndex.disabled();
+					}
+
 				};
 			}
 
@@ -67,6 +74,16 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public ReportingLimits reportingLimits() {
+				return ReportingLimits.DEFAULT;
+			}
 		};
 	}
 
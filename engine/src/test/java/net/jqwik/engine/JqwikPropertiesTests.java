@@ -33,6 +33,7 @@ class JqwikPropertiesTests {
 
 		assertThat(properties.runFailuresFirst()).isEqualTo(false);
 		assertThat(properties.databasePath()).isEqualTo(".jqwik-database");
+		assertThat(properties.discoveryIndex()).isEqualTo(true);
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
 		assertThat(properties.defaultMaxDiscardRatio()).isEqualTo(5);
@@ -52,5 +53,49 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.exhaustiveSliceSize()).isEqualTo(0);
+
+		assertThat(properties.reportingMaxDepth()).isEqualTo(20);
+		assertThat(properties.reportingMaxWidth()).isEqualTo(1000);
+		assertThat(properties.reportingMaxSize()).isEqualTo(100000);
+
+		assertThat(properties.randomAlgorithm()).isEqualTo(RandomAlgorithm.XORSHIFT);
+
+		assertThat(properties.filterNarrowing()).isEqualTo(false);
+	}
+
+	@Example
+	void randomAlgorithmIsParsedCaseInsensitively() {
+		JqwikProperties properties = new JqwikProperties(parameters("random.algorithm", " SplitMix "));
+
+		assertThat(properties.randomAlgorithm()).isEqualTo(RandomAlgorithm.SPLITMIX);
+	}
+
+	@Example
+	void unknownRandomAlgorithmIsReportedWithAllowedValues() {
+		assertThatThrownBy(() -> new JqwikProperties(parameters("random.algorithm", "mersenne")))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("[mersenne]")
+			.hasMessageContaining("[XORSHIFT, SPLITMIX]");
+	}
+
+	private ConfigurationParameters parameters(String key, String value) {
+		return new ConfigurationParameters() {
+			@Override
+			public Optional<String> get(String aKey) {
+				return aKey.equals(key) ? Optional.of(value) : Optional.empty();
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String aKey) {
+				return get(aKey).map(Boolean::parseBoolean);
+			}
+
+			@Override
+			public int size() {
+				return 1;
+			}
+		};
 	}
 }
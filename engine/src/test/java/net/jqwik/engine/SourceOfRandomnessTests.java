@@ -0,0 +1,108 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Property(tries = 10)
+	void sameSeedCreatesSameValues(@ForAll long seed, @ForAll RandomAlgorithm algorithm) {
+		JqwikRandom random1 = algorithm.create(seed);
+		JqwikRandom random2 = algorithm.create(seed);
+
+		assertThat(nextLongs(random1, 10)).isEqualTo(nextLongs(random2, 10));
+	}
+
+	@Property(tries = 10)
+	void splittingIsDeterministic(@ForAll long seed, @ForAll RandomAlgorithm algorithm) {
+		JqwikRandom random1 = algorithm.create(seed);
+		JqwikRandom random2 = algorithm.create(seed);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(nextLongs(random1.split(), 10)).isEqualTo(nextLongs(random2.split(), 10));
+		}
+	}
+
+	@Property(tries = 10)
+	void splitRandomsDifferFromEachOtherAndFromParent(@ForAll long seed, @ForAll RandomAlgorithm algorithm) {
+		JqwikRandom random = algorithm.create(seed);
+		JqwikRandom split1 = random.split();
+		JqwikRandom split2 = random.split();
+
+		List<Long> parentValues = nextLongs(random, 10);
+		List<Long> split1Values = nextLongs(split1, 10);
+		List<Long> split2Values = nextLongs(split2, 10);
+
+		assertThat(split1Values).isNotEqualTo(parentValues);
+		assertThat(split2Values).isNotEqualTo(parentValues);
+		assertThat(split1Values).isNotEqualTo(split2Values);
+	}
+
+	@Example
+	void xorShiftAlgorithmCreatesSameValuesAsBefore() {
+		JqwikRandom random = RandomAlgorithm.XORSHIFT.create(42L);
+		XORShiftRandom xorShiftRandom = new XORShiftRandom(42L);
+
+		assertThat(nextLongs(random, 10)).isEqualTo(nextLongs(xorShiftRandom, 10));
+	}
+
+	@Example
+	void triesRandomIsDerivedFromSeed() {
+		JqwikRandom triesRandom1 = SourceOfRandomness.forTries("4711");
+		JqwikRandom triesRandom2 = SourceOfRandomness.forTries("4711");
+
+		assertThat(nextLongs(triesRandom1, 10)).isEqualTo(nextLongs(triesRandom2, 10));
+		assertThat(nextLongs(triesRandom1, 10)).isNotEqualTo(nextLongs(SourceOfRandomness.newRandom(4711L), 10));
+	}
+
+	@Property(tries = 10)
+	void newRandomsUseAlgorithmOfCurrentRandom(@ForAll RandomAlgorithm algorithm) {
+		JqwikRandom random = algorithm.create(42L);
+
+		JqwikRandom newRandom = SourceOfRandomness.runWithCurrent(random, () -> SourceOfRandomness.newRandom(4711L));
+
+		assertThat(newRandom.algorithm()).isEqualTo(algorithm);
+		assertThat(nextLongs(newRandom, 10)).isEqualTo(nextLongs(algorithm.create(4711L), 10));
+	}
+
+	@Example
+	void invalidSeedIsRejected() {
+		assertThatThrownBy(() -> SourceOfRandomness.create("not a number"))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("not a valid random seed");
+	}
+
+	@Example
+	void runWithCurrentRestoresPreviousRandom() {
+		JqwikRandom previous = SourceOfRandomness.current();
+		JqwikRandom random = SourceOfRandomness.newRandom(42L);
+
+		JqwikRandom currentWhileRunning = SourceOfRandomness.runWithCurrent(random, SourceOfRandomness::current);
+
+		assertThat(currentWhileRunning).isSameAs(random);
+		assertThat(SourceOfRandomness.current()).isSameAs(previous);
+	}
+
+	@Example
+	void runWithCurrentRestoresPreviousRandomAfterException() {
+		JqwikRandom previous = SourceOfRandomness.current();
+		JqwikRandom random = SourceOfRandomness.newRandom(42L);
+
+		assertThatThrownBy(() -> SourceOfRandomness.runWithCurrent(random, () -> {
+			throw new RuntimeException("failed");
+		})).hasMessage("failed");
+
+		assertThat(SourceOfRandomness.current()).isSameAs(previous);
+	}
+
+	private List<Long> nextLongs(Random random, int count) {
+		List<Long> values = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			values.add(random.nextLong());
+		}
+		return values;
+	}
+}
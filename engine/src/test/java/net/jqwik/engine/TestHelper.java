@@ -28,8 +28,21 @@ public class TestHelper {
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
+	public static final int DEFAULT_TRIES_PARALLELISM = 1;
+	public static final int DEFAULT_SHRINKING_PARALLELISM = 1;
+	public static final long DEFAULT_EXHAUSTIVE_SLICE_SIZE = 0;
+	public static final boolean DEFAULT_FILTER_NARROWING = false;
+	public static final RandomAlgorithm DEFAULT_RANDOM_ALGORITHM = RandomAlgorithm.XORSHIFT;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
+		return propertyAttributesDefaults(DEFAULT_TRIES_PARALLELISM);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(int triesParallelism) {
+		return propertyAttributesDefaults(triesParallelism, DEFAULT_EXHAUSTIVE_SLICE_SIZE);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(int triesParallelism, long exhaustiveSliceSize) {
 		return PropertyAttributesDefaults.with(
 			DEFAULT_TRIES,
 			DEFAULT_MAX_DISCARD_RATIO,
@@ -38,7 +51,13 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			triesParallelism,
+			DEFAULT_SHRINKING_PARALLELISM,
+			Property.MAX_DURATION_NOT_SET,
+			exhaustiveSliceSize,
+			DEFAULT_FILTER_NARROWING,
+			DEFAULT_RANDOM_ALGORITHM
 		);
 	}
 
@@ -84,6 +103,7 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
 			null
 		);
 
@@ -132,6 +152,11 @@ public class TestHelper {
 			public SkipExecutionHook skipExecutionHook(TestDescriptor testDescriptor) {
 				return descriptor -> SkipExecutionHook.SkipResult.doNotSkip();
 			}
+
+			@Override
+			public InstrumentationHook instrumentationHook(PropertyMethodDescriptor propertyMethodDescriptor) {
+				return InstrumentationHook.NONE;
+			}
 		};
 	}
 
@@ -0,0 +1,130 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import examples.packageWithSingleContainer.*;
+import org.junit.platform.engine.*;
+import org.junit.platform.launcher.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.recording.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.*;
+
+@SuppressLogging
+class DiscoveryIndexTests {
+
+	private final Path indexPath;
+	private final Path classpathRoot;
+
+	DiscoveryIndexTests() throws IOException {
+		indexPath = Files.createTempFile("jqwik-discovery", ".test");
+		Files.delete(indexPath);
+		classpathRoot = Files.createTempDirectory("jqwik-classpath-root");
+		Files.write(classpathRoot.resolve("Container.class"), new byte[]{1, 2, 3});
+	}
+
+	@AfterProperty
+	void deleteFiles() throws IOException {
+		Files.deleteIfExists(indexPath);
+		Files.deleteIfExists(classpathRoot.resolve("Container.class"));
+		Files.deleteIfExists(classpathRoot.resolve("Other.class"));
+		Files.deleteIfExists(classpathRoot);
+	}
+
+	@Example
+	void indexedContainersAreAvailableInNextRun() {
+		DiscoveryIndex index = new DiscoveryIndex(indexPath);
+		index.update("root", 42L, Arrays.asList("a.Container", "b.Container"));
+		index.save();
+
+		DiscoveryIndex nextIndex = new DiscoveryIndex(indexPath);
+		assertThat(nextIndex.containerClassNames("root", 42L)).hasValue(Arrays.asList("a.Container", "b.Container"));
+		assertThat(nextIndex.containerClassNames("root", 43L)).isEmpty();
+		assertThat(nextIndex.containerClassNames("otherRoot", 42L)).isEmpty();
+	}
+
+	@Example
+	void unreadableIndexIsDiscarded() throws IOException {
+		Files.write(indexPath, new byte[]{1, 2, 3});
+
+		DiscoveryIndex index = new DiscoveryIndex(indexPath);
+		assertThat(index.containerClassNames("root", 42L)).isEmpty();
+	}
+
+	@Example
+	void fingerprintChangesWithClassFiles() throws IOException {
+		List<URI> roots = Collections.singletonList(classpathRoot.toUri());
+		Optional<Long> fingerprint = ClasspathFingerprint.of(roots);
+		assertThat(fingerprint).isPresent();
+		assertThat(ClasspathFingerprint.of(roots)).isEqualTo(fingerprint);
+
+		Files.write(classpathRoot.resolve("Other.class"), new byte[]{4, 5});
+		assertThat(ClasspathFingerprint.of(roots)).isNotEqualTo(fingerprint);
+
+		Files.write(classpathRoot.resolve("Container.class"), new byte[]{1, 2, 3, 4});
+		Files.delete(classpathRoot.resolve("Other.class"));
+		assertThat(ClasspathFingerprint.of(roots)).isNotEqualTo(fingerprint);
+	}
+
+	@Example
+	void missingRootHasNoFingerprint() {
+		Path missingRoot = classpathRoot.resolve("missing");
+		assertThat(ClasspathFingerprint.of(Collections.singletonList(missingRoot.toUri()))).isEmpty();
+	}
+
+	@Example
+	void discoveryOfUnchangedClasspathRootUsesIndexedContainers() {
+		URI root = classpathRoot.toUri();
+		long fingerprint = ClasspathFingerprint.of(Collections.singletonList(root)).get();
+		DiscoveryIndex index = new DiscoveryIndex(indexPath);
+		// The fake class file in root cannot be scanned, so containers can only come from the index
+		index.update(root.toString(), fingerprint, Collections.singletonList(SimpleExampleTests.class.getName()));
+
+		TestDescriptor engineDescriptor = discoverClasspathRoot(index);
+		assertThat(countProperties(engineDescriptor)).isEqualTo(4);
+	}
+
+	@Example
+	void discoveryOfChangedClasspathRootScansAndUpdatesIndex() {
+		URI root = classpathRoot.toUri();
+		DiscoveryIndex index = new DiscoveryIndex(indexPath);
+		index.update(root.toString(), 4711L, Collections.singletonList(SimpleExampleTests.class.getName()));
+
+		TestDescriptor engineDescriptor = discoverClasspathRoot(index);
+		assertThat(countProperties(engineDescriptor)).isEqualTo(0);
+
+		long fingerprint = ClasspathFingerprint.of(Collections.singletonList(root)).get();
+		assertThat(new DiscoveryIndex(indexPath).containerClassNames(root.toString(), fingerprint)).hasValue(Collections.emptyList());
+	}
+
+	private TestDescriptor discoverClasspathRoot(DiscoveryIndex index) {
+		LauncherDiscoveryRequest discoveryRequest =
+			request().selectors(selectClasspathRoots(Collections.singleton(classpathRoot))).build();
+		UniqueId engineId = UniqueId.forEngine(JqwikTestEngine.ENGINE_ID);
+		JqwikEngineDescriptor engineDescriptor = new JqwikEngineDescriptor(engineId, null);
+		new JqwikDiscoverer(new TestRunData(), TestHelper.propertyAttributesDefaults(), index)
+			.discover(discoveryRequest, engineDescriptor);
+		return engineDescriptor;
+	}
+
+	private int countProperties(TestDescriptor root) {
+		AtomicInteger counter = new AtomicInteger();
+		root.accept(d -> {
+			if (d instanceof PropertyMethodDescriptor) {
+				counter.incrementAndGet();
+			}
+		});
+		return counter.intValue();
+	}
+}
@@ -187,6 +187,18 @@ class PropertyMethodResolverTests {
 			assertThat(propertyMethodDescriptor.getConfiguration().getPreviousSeed()).isNull();
 		}
 
+		@Example
+		void exhaustiveCheckpointOfPreviousRunIsStartPosition() {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method method = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId previousId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			testRunData.add(new TestRun(previousId, Status.SUCCESSFUL, "4243", null, 1000L));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
+			assertThat(propertyMethodDescriptor.getConfiguration().getExhaustiveStartPosition()).isEqualTo(1000L);
+		}
+
 		@Example
 		void explicitSeedOverwritesSeedFromPreviouslyFailedTestRun() {
 			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
@@ -0,0 +1,128 @@
+package net.jqwik.engine.execution;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.mockito.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentExecutionPipelineTests {
+
+	private final PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+	private final ConcurrentExecutionPipeline pipeline = new ConcurrentExecutionPipeline(listener, 4);
+
+	@Example
+	void withNoTasksPipelineTerminatesAtOnce() {
+		pipeline.runToTermination();
+	}
+
+	@Example
+	void allTasksAreExecuted() {
+		List<MockExecutionTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			MockExecutionTask task = new MockExecutionTask(Integer.toString(i));
+			tasks.add(task);
+			pipeline.submit(task);
+		}
+		pipeline.runToTermination();
+
+		tasks.forEach(task -> Mockito.verify(listener).executionStarted(task));
+	}
+
+	@Example
+	void tasksRunAfterAllTheirPredecessors() {
+		List<String> finished = new CopyOnWriteArrayList<>();
+		ExecutionTask prepare = recordingTask("prepare", finished);
+		ExecutionTask child1 = recordingTask("child1", finished);
+		ExecutionTask child2 = recordingTask("child2", finished);
+		ExecutionTask child3 = recordingTask("child3", finished);
+		ExecutionTask finish = recordingTask("finish", finished);
+
+		pipeline.submit(prepare);
+		pipeline.submit(child1, prepare);
+		pipeline.submit(child2, prepare);
+		pipeline.submit(child3, prepare);
+		pipeline.submit(finish, child1, child2, child3);
+		pipeline.runToTermination();
+
+		assertThat(finished).hasSize(5);
+		assertThat(finished.get(0)).isEqualTo("prepare");
+		assertThat(finished.subList(1, 4)).containsExactlyInAnyOrder("child1", "child2", "child3");
+		assertThat(finished.get(4)).isEqualTo("finish");
+	}
+
+	@Example
+	void failedPredecessorResultIsHandedToSuccessors() {
+		RuntimeException failure = new RuntimeException("failed");
+		ExecutionTask failing = new MockExecutionTask("failing") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				return TaskExecutionResult.failure(failure);
+			}
+		};
+		List<TaskExecutionResult> successorResults = new CopyOnWriteArrayList<>();
+		ExecutionTask successor = new MockExecutionTask("successor") {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				successorResults.add(predecessorResult);
+				return predecessorResult;
+			}
+		};
+
+		pipeline.submit(failing);
+		pipeline.submit(successor, failing);
+		pipeline.runToTermination();
+
+		assertThat(successorResults).hasSize(1);
+		assertThat(successorResults.get(0).successful()).isFalse();
+		assertThat(successorResults.get(0).throwable()).contains(failure);
+	}
+
+	@Example
+	void addingATaskTwiceThrowsException() {
+		MockExecutionTask task = new MockExecutionTask("1");
+		pipeline.submit(task);
+		assertThatThrownBy(() -> pipeline.submit(task)).isInstanceOf(DuplicateExecutionTaskException.class);
+	}
+
+	@Example
+	void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1, task2);
+
+		assertThatThrownBy(() -> pipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+	}
+
+	@Example
+	void prioritizedTasksAreStartedFirstWithSingleThread() {
+		ConcurrentExecutionPipeline singleThreadedPipeline = new ConcurrentExecutionPipeline(listener, 1);
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		UniqueId ownerId = UniqueId.root("owner", "2");
+		MockExecutionTask owned = new MockExecutionTask(ownerId, "2");
+		singleThreadedPipeline.submit(task1);
+		singleThreadedPipeline.submit(owned);
+
+		singleThreadedPipeline.executeFirst(ownerId);
+		singleThreadedPipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(owned);
+		events.verify(listener).executionStarted(task1);
+	}
+
+	private ExecutionTask recordingTask(String name, List<String> finished) {
+		return new MockExecutionTask(name) {
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				finished.add(name);
+				return TaskExecutionResult.success();
+			}
+		};
+	}
+}
@@ -0,0 +1,121 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import org.mockito.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.InstrumentationHook.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InstrumentationHookTests {
+
+	static final Map<Phase, AtomicInteger> measuredPhases = new ConcurrentHashMap<>();
+
+	@Property(tries = 10)
+	@AddLifecycleHook(CountPhases.class)
+	@PerProperty(AssertAllTriesMeasured.class)
+	void allPhasesOfTriesAreMeasured(@ForAll int anInt) {
+	}
+
+	class AssertAllTriesMeasured implements PerProperty.Lifecycle {
+		@Override
+		public void before(PropertyLifecycleContext context) {
+			measuredPhases.clear();
+		}
+
+		@Override
+		public void onSuccess() {
+			assertThat(measuredPhases.get(Phase.GENERATION)).hasValue(10);
+			assertThat(measuredPhases.get(Phase.AROUND_TRY)).hasValue(10);
+			assertThat(measuredPhases.get(Phase.METHOD_INVOCATION)).hasValue(10);
+			assertThat(measuredPhases).doesNotContainKey(Phase.SHRINKING_STEP);
+		}
+	}
+
+	@Property(tries = 10)
+	@AddLifecycleHook(CountPhases.class)
+	@ExpectFailure(checkResult = ShrinkingStepsMeasured.class)
+	void shrinkingStepsAreMeasured(@ForAll("largeNumbers") int anInt) {
+		assertThat(anInt).isLessThan(100);
+	}
+
+	@Provide
+	Arbitrary<Integer> largeNumbers() {
+		return Arbitraries.integers().between(1000, 10000);
+	}
+
+	private class ShrinkingStepsMeasured implements Consumer<PropertyExecutionResult> {
+		@Override
+		public void accept(PropertyExecutionResult result) {
+			assertThat(result.falsifiedParameters()).hasValue(Collections.singletonList(1000));
+			assertThat(measuredPhases.get(Phase.SHRINKING_STEP).get()).isGreaterThan(0);
+		}
+	}
+
+	@Property(tries = 10)
+	@Report(Reporting.TIMINGS)
+	@AddLifecycleHook(CheckTimingsReport.class)
+	void timingsAreReported(@ForAll int anInt) {
+	}
+
+	@Property(tries = 10)
+	@AddLifecycleHook(CheckNoTimingsReport.class)
+	void timingsAreOnlyReportedIfRequested(@ForAll int anInt) {
+	}
+
+}
+
+class CountPhases implements InstrumentationHook {
+	@Override
+	public void measured(PropertyLifecycleContext context, Phase phase, long nanos, long allocatedBytes) {
+		assertThat(nanos).isGreaterThanOrEqualTo(0);
+		InstrumentationHookTests.measuredPhases.computeIfAbsent(phase, ignore -> new AtomicInteger()).incrementAndGet();
+	}
+}
+
+abstract class CheckTimingsReportHook implements AroundPropertyHook {
+
+	Reporter reporter = Mockito.mock(Reporter.class);
+
+	@Override
+	public int aroundPropertyProximity() {
+		// Outside TimingsReportingHook
+		return -100;
+	}
+
+	@Override
+	public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
+		context.wrapReporter(ignore -> reporter);
+		PropertyExecutionResult result = property.execute();
+		check(reporter);
+		return result;
+	}
+
+	abstract void check(Reporter reporter);
+}
+
+class CheckTimingsReport extends CheckTimingsReportHook {
+	@Override
+	void check(Reporter reporter) {
+		verify(reporter).publishValue(
+			contains("timings"),
+			contains("method invocation")
+		);
+	}
+}
+
+class CheckNoTimingsReport extends CheckTimingsReportHook {
+	@Override
+	void check(Reporter reporter) {
+		verify(reporter, never()).publishValue(contains("timings"), anyString());
+	}
+}
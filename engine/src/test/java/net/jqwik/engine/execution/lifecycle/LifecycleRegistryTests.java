@@ -60,6 +60,24 @@ class LifecycleRegistryTests {
 		assertThat(RememberCurrentDescriptorHook.currentDescriptor).isSameAs(container1);
 	}
 
+	@Example
+	void combinedHooksAreCachedUntilNextRegistration() throws Throwable {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		PropertyMethodDescriptor method1_1 = (PropertyMethodDescriptor) container1.getChildren().iterator().next();
+
+		registry.registerLifecycleHook(container1, ChangeFirstParamTo42.class, ALL_DESCENDANTS);
+		AroundTryHook aroundTryHook = registry.aroundTryHook(method1_1);
+		assertThat(registry.aroundTryHook(method1_1)).isSameAs(aroundTryHook);
+
+		registry.registerLifecycleHook(container1, ChangeSecondParamToAAA.class, ALL_DESCENDANTS);
+		AroundTryHook combinedHook = registry.aroundTryHook(method1_1);
+		assertThat(combinedHook).isNotSameAs(aroundTryHook);
+
+		List<Object> parameters = new ArrayList<>(Arrays.asList(1, "a"));
+		combinedHook.aroundTry(null, params -> TryExecutionResult.satisfied(), parameters);
+		assertThat(parameters).containsExactly(42, "AAA");
+	}
+
 	@Group
 	class UsingRegistrar {
 		@Example
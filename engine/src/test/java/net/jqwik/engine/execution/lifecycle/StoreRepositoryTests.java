@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -179,6 +180,53 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void tryStoresHaveSeparateValuesInEachTryScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeTry = repository.create(method, "storeTry", Lifespan.TRY, () -> "initial");
+			List<String> closedValues = new ArrayList<>();
+			storeTry.onClose(closedValues::add);
+
+			TryScope tryScope1 = new TryScope();
+			TryScope tryScope2 = new TryScope();
+			TryScope.runIn(tryScope1, () -> {
+				storeTry.update(s -> "changed in try 1");
+				return null;
+			});
+			TryScope.runIn(tryScope2, () -> {
+				storeTry.update(s -> "changed in try 2");
+				return null;
+			});
+
+			assertThat(TryScope.runIn(tryScope1, storeTry::get)).isEqualTo("changed in try 1");
+			assertThat(TryScope.runIn(tryScope2, storeTry::get)).isEqualTo("changed in try 2");
+			assertThat(storeTry.get()).isEqualTo("initial");
+
+			TryScope.runIn(tryScope1, () -> {
+				repository.finishTry(method);
+				return null;
+			});
+
+			assertThat(closedValues).containsExactly("changed in try 1");
+			assertThat(TryScope.runIn(tryScope1, storeTry::get)).isEqualTo("initial");
+			assertThat(TryScope.runIn(tryScope2, storeTry::get)).isEqualTo("changed in try 2");
+		}
+
+		@Example
+		void tryScopeDoesNotAffectStoresWithOtherLifespans() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> storeProperty = repository.create(method, "storeProperty", Lifespan.PROPERTY, () -> "initial");
+
+			TryScope.runIn(new TryScope(), () -> {
+				storeProperty.update(s -> "changed");
+				return null;
+			});
+
+			assertThat(storeProperty.get()).isEqualTo("changed");
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -268,6 +316,106 @@ class StoreRepositoryTests {
 
 	}
 
+	@Group
+	class Concurrency {
+
+		@Example
+		void storesCanBeCreatedAndRetrievedConcurrently() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			List<TestDescriptor> methods = new ArrayList<>(container.getChildren());
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < 200; i++) {
+					String identifier = "store" + i;
+					for (TestDescriptor method : methods) {
+						futures.add(executor.submit(() -> {
+							ScopedStore<String> store = repository.create(method, identifier, Lifespan.PROPERTY, () -> identifier);
+							assertThat(repository.get(method, identifier)).containsSame(store);
+						}));
+					}
+				}
+				for (Future<?> future : futures) {
+					future.get(10, TimeUnit.SECONDS);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+
+			for (TestDescriptor method : methods) {
+				assertThat(repository.get(method, "store199")).isPresent();
+			}
+			repository.finishScope(container);
+			assertThat(repository.get(methods.get(0), "store0")).isNotPresent();
+		}
+
+		@Example
+		void onlyOneOfConflictingStoresCanBeCreatedConcurrently() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<Boolean>> futures = new ArrayList<>();
+				for (int i = 0; i < 8; i++) {
+					futures.add(executor.submit(() -> {
+						try {
+							repository.create(container, "contested", Lifespan.PROPERTY, () -> "value");
+							return true;
+						} catch (JqwikException conflict) {
+							return false;
+						}
+					}));
+				}
+				int created = 0;
+				for (Future<Boolean> future : futures) {
+					if (future.get(10, TimeUnit.SECONDS)) {
+						created++;
+					}
+				}
+				assertThat(created).isEqualTo(1);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Example
+		void getOrCreateOfFreshIdentifierReturnsSameStoreForAllThreads() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			int numberOfThreads = 8;
+
+			ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+			try {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<ScopedStore<String>>> futures = new ArrayList<>();
+				for (int i = 0; i < numberOfThreads; i++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						return repository.getOrCreate(container, "fresh", Lifespan.PROPERTY, () -> "value");
+					}));
+				}
+				start.countDown();
+				Set<ScopedStore<String>> stores = Collections.newSetFromMap(new IdentityHashMap<>());
+				for (Future<ScopedStore<String>> future : futures) {
+					stores.add(future.get(10, TimeUnit.SECONDS));
+				}
+				assertThat(stores).hasSize(1);
+				assertThat(repository.get(container, "fresh")).containsSame(stores.iterator().next());
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Example
+		void getOrCreateWithDifferentLifespanFails() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class).build();
+			repository.getOrCreate(container, "store", Lifespan.PROPERTY, () -> "value");
+
+			assertThatThrownBy(() -> repository.getOrCreate(container, "store", Lifespan.TRY, () -> "value"))
+				.isInstanceOf(JqwikException.class);
+		}
+	}
+
 	private static class Container1 {
 
 		@Property
@@ -5,11 +5,15 @@ import java.util.*;
 import java.util.stream.*;
 
 import org.assertj.core.api.*;
+import org.junit.platform.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
 
 import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @Group
 class SampleReportingTests {
@@ -596,6 +600,71 @@ class SampleReportingTests {
 
 		}
 
+		@Group
+		class Limits {
+
+			@Example
+			void elementsBeyondMaxWidthAreElided() {
+				List<Integer> list = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list, new ReportingLimits(20, 5, 100_000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[0, 1, 2, 3, 4, ...<99995 more>]");
+			}
+
+			@Example
+			void entriesBeyondMaxWidthAreElided() {
+				Map<Integer, Integer> map = new LinkedHashMap<>();
+				for (int i = 1; i <= 5; i++) {
+					map.put(i, i);
+				}
+				ValueReport report = ValueReport.of(map, new ReportingLimits(20, 2, 100_000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("{1=1, 2=2, ...<3 more>}");
+			}
+
+			@Example
+			void collectionsBeyondMaxDepthAreElided() {
+				List<Object> list = asList(1, asList(2, asList(3)));
+				ValueReport report = ValueReport.of(list, new ReportingLimits(2, 1000, 100_000));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[1, [2, [...]]]");
+			}
+
+			@Example
+			void longValuesAreCutAtMaxSize() {
+				String longString = LineReporter.multiply('x', 1000);
+				ValueReport report = ValueReport.of(longString, new ReportingLimits(20, 1000, 10));
+
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("\"xxxxxxxxx...<992 more characters>");
+			}
+
+			@Example
+			void reportingLimitsAreTakenFromEngineConfiguration() {
+				ReportingLimits limits = new ReportingLimits(1, 2, 3);
+				JqwikConfiguration configuration = mock(JqwikConfiguration.class);
+				when(configuration.reportingLimits()).thenReturn(limits);
+				UniqueId engineId = UniqueId.forEngine(JqwikTestEngine.ENGINE_ID);
+
+				Assertions.assertThat(ReportingLimits.of(new JqwikEngineDescriptor(engineId, configuration))).isSameAs(limits);
+				Assertions.assertThat(ReportingLimits.of(new JqwikEngineDescriptor(engineId, null))).isSameAs(ReportingLimits.DEFAULT);
+			}
+
+			@Example
+			void sampleReportIsTruncatedAtMaxSize() {
+				List<Integer> list = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+				Map<String, Object> reports = new LinkedHashMap<>();
+				reports.put("aList", list);
+				SampleReporter sampleReporter = new SampleReporter("Headline", reports, new ReportingLimits(20, 1000, 300));
+
+				sampleReporter.reportTo(lineReporter);
+
+				Assertions.assertThat(lineReporter.lines.get(lineReporter.lines.size() - 1))
+						  .endsWith("...<report truncated after 300 characters>");
+				Assertions.assertThat(String.join("\n", lineReporter.lines).length())
+						  .isLessThanOrEqualTo(300 + "...<report truncated after 300 characters>".length());
+			}
+		}
+
 		private ValueReport.ReportingFormatFinder formatFinder(SampleReportingFormat... formats) {
 			return value -> Arrays.stream(formats)
 								  .filter(format -> format.appliesTo(value))
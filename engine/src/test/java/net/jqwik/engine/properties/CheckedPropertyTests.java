@@ -435,6 +435,79 @@ class CheckedPropertyTests {
 				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
 			}
 
+			@Example
+			@Label("with exhaustive slice size only a slice is checked and a checkpoint recorded")
+			void exhaustiveSliceIsCheckedAndCheckpointRecorded() {
+				List<Integer> allGeneratedParameters = new ArrayList<>();
+				CheckedFunction rememberParameters = params -> allGeneratedParameters.add((int) params.get(0));
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", rememberParameters, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 10)),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withExhaustiveSliceSize(4).withExhaustiveStartPosition(4).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(4);
+				assertThat(allGeneratedParameters).containsExactly(5, 6, 7, 8);
+				assertThat(check.exhaustiveCheckpoint()).hasValue(8L);
+			}
+
+			@Example
+			@Label("last exhaustive slice records no checkpoint")
+			void lastExhaustiveSliceRecordsNoCheckpoint() {
+				List<Integer> allGeneratedParameters = new ArrayList<>();
+				CheckedFunction rememberParameters = params -> allGeneratedParameters.add((int) params.get(0));
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", rememberParameters, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 10)),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withExhaustiveSliceSize(4).withExhaustiveStartPosition(8).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(allGeneratedParameters).containsExactly(9, 10);
+				assertThat(check.exhaustiveCheckpoint()).isEmpty();
+			}
+
+			@Example
+			@Label("failing exhaustive slice records its start as checkpoint")
+			void failingExhaustiveSliceRecordsItsStart() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", params -> (int) params.get(0) != 6, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 10)),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withExhaustiveSliceSize(4).withExhaustiveStartPosition(4).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.checkStatus()).isEqualTo(FAILED);
+				assertThat(check.exhaustiveCheckpoint()).hasValue(4L);
+			}
+
+			@Example
+			@Label("checkpoint outside of exhaustive space starts from the beginning")
+			void checkpointOutsideOfExhaustiveSpace() {
+				List<Integer> allGeneratedParameters = new ArrayList<>();
+				CheckedFunction rememberParameters = params -> allGeneratedParameters.add((int) params.get(0));
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", rememberParameters, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 3)),
+					Optional.empty(),
+					aConfig().withGeneration(EXHAUSTIVE).withExhaustiveStartPosition(100).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(allGeneratedParameters).containsExactly(1, 2, 3);
+				assertThat(check.exhaustiveCheckpoint()).isEmpty();
+			}
+
 			@Example
 			@Label("use randomized generation with explicit GenerationMode.RANDOMIZED")
 			void useRandomizedWithExplicitGenerationModeRandomized() {
@@ -494,6 +567,49 @@ class CheckedPropertyTests {
 				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
 				assertThat(check.falsifiedParameters()).isEmpty();
 			}
+
+			@Example
+			@Label("regression samples are tried before random generation")
+			void regressionSamplesAreTriedFirst() {
+				List<Object> regressionSample = Arrays.asList(1000, 1000);
+				CheckedFunction failOnRegressionSample = params -> !params.equals(regressionSample);
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"sampleProperty", failOnRegressionSample, getParametersForMethod("sampleProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(10).withRegressionSamples(Collections.singletonList(regressionSample)).build(),
+					lifecycleContextForMethod("sampleProperty", int.class, int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.countTries()).isEqualTo(1);
+				assertThat(check.checkStatus()).isEqualTo(FAILED);
+				assertThat(check.falsifiedParameters()).hasValue(regressionSample);
+			}
+
+			@Example
+			@Label("incompatible regression samples are skipped")
+			void incompatibleRegressionSamplesAreSkipped() {
+				List<List<Object>> regressionSamples = Arrays.asList(
+					Arrays.asList("a string", 1),
+					Collections.singletonList(1),
+					Arrays.asList(1, 2)
+				);
+				List<List<Object>> checkedParams = new ArrayList<>();
+				CheckedFunction recordParams = params -> checkedParams.add(params);
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"sampleProperty", recordParams, getParametersForMethod("sampleProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withTries(10).withRegressionSamples(regressionSamples).build(),
+					lifecycleContextForMethod("sampleProperty", int.class, int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.countTries()).isEqualTo(10);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(checkedParams.get(0)).isEqualTo(Arrays.asList(1, 2));
+			}
 		}
 	}
 
@@ -66,6 +66,64 @@ class ExhaustiveShrinkablesGeneratorTests {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
 	}
 
+	@Group
+	class Indexing {
+
+		@Example
+		void parametersCanBeComputedByIndex() {
+			ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+			assertThat(shrinkablesGenerator.isIndexed()).isTrue();
+
+			assertThat(shrinkablesGenerator.parametersAt(0)).hasValue(asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(4)));
+			assertThat(shrinkablesGenerator.parametersAt(3)).hasValue(asList(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(5)));
+			assertThat(shrinkablesGenerator.parametersAt(4)).hasValue(asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4)));
+		}
+
+		@Example
+		void slicesPartitionExhaustiveSpace() {
+			ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+			List<List<Shrinkable<Object>>> all = new ArrayList<>();
+			shrinkablesGenerator.forEachRemaining(all::add);
+
+			List<List<Shrinkable<Object>>> sliced = new ArrayList<>();
+			shrinkablesGenerator.slice(0, 2).forEachRemaining(sliced::add);
+			shrinkablesGenerator.slice(2, 5).forEachRemaining(sliced::add);
+			shrinkablesGenerator.slice(5, 100).forEachRemaining(sliced::add);
+
+			assertThat(sliced).isEqualTo(all);
+		}
+
+		@Example
+		void filteredValuesLeaveGapsInIndexSpace() {
+			ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("evenIntsFrom0to9");
+			assertThat(shrinkablesGenerator.isIndexed()).isTrue();
+			assertThat(shrinkablesGenerator.maxCount()).isEqualTo(10);
+			assertThat(shrinkablesGenerator.parametersAt(1)).isEmpty();
+
+			assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(0));
+			assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(2));
+			assertThat(shrinkablesGenerator.position()).isEqualTo(3);
+
+			ExhaustiveShrinkablesGenerator rest = shrinkablesGenerator.slice(shrinkablesGenerator.position(), Long.MAX_VALUE);
+			assertThat(rest.next()).containsExactly(Shrinkable.unshrinkable(4));
+		}
+
+		@Example
+		void slicesOfNotIndexedGeneratorsSkipPrecedingParameters() {
+			ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("iterables");
+			assertThat(shrinkablesGenerator.isIndexed()).isFalse();
+			List<List<Shrinkable<Object>>> all = new ArrayList<>();
+			shrinkablesGenerator.forEachRemaining(all::add);
+
+			ExhaustiveShrinkablesGenerator slice = shrinkablesGenerator.slice(2, 4);
+			List<List<Shrinkable<Object>>> sliced = new ArrayList<>();
+			slice.forEachRemaining(sliced::add);
+
+			assertThat(sliced).isEqualTo(all.subList(2, 4));
+			assertThat(slice.position()).isEqualTo(4);
+		}
+	}
+
 	private ExhaustiveShrinkablesGenerator createGenerator(String methodName) {
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
 			new MyProperties(),
@@ -97,5 +155,12 @@ class ExhaustiveShrinkablesGeneratorTests {
 		public void iterables(@ForAll @Size(2) Iterable<@IntRange(min = 0, max = 1) Integer> iterable) {}
 
 		public void doubles(@ForAll double aDouble) {}
+
+		public void evenIntsFrom0to9(@ForAll("evens") int anInt) {}
+
+		@Provide
+		Arbitrary<Integer> evens() {
+			return Arbitraries.integers().between(0, 9).filter(i -> i % 2 == 0);
+		}
 	}
 }
@@ -5,14 +5,20 @@ import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.junit.platform.engine.*;
+import org.mockito.*;
 import org.opentest4j.*;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.hooks.statistics.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -343,6 +349,355 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Example
+		void satisfied() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withTriesParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(100);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+		}
+
+		@Example
+		void firstFalsifiedSampleInGenerationOrderIsReported() {
+			int failingTry = 17;
+			CheckedFunction checkedFunction = params -> ((int) params.get(0)) < failingTry;
+
+			Arbitrary<Object> arbitrary = OrderedArbitraryForTesting.between(1, 50).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withTriesParallelism(8).withShrinking(OFF).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(failingTry);
+			assertThat(result.countChecks()).isEqualTo(failingTry);
+			assertThat(result.falsifiedParameters().get()).containsExactly(failingTry);
+		}
+
+		@Example
+		void falsifiedSampleIsShrunk() {
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(1, 100).asGeneric();
+			CheckedFunction checkedFunction = params -> ((int) params.get(0)) < 5;
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTriesParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, checkedFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(5);
+		}
+
+		@Example
+		void rejectedAssumptionsAreNotCounted() {
+			ForAllSpy forAllFunction = new ForAllSpy(aTry -> {
+				Assume.that(aTry % 2 == 0);
+				return true;
+			});
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withTriesParallelism(3).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.countChecks()).isEqualTo(5);
+		}
+
+		@Example
+		void samplesAreGeneratedAsInSequentialExecution() {
+			// Both arbitraries use try stores during generation
+			Supplier<Arbitrary<Object>> arbitrary =
+				() -> Arbitraries.lazy(() -> Arbitraries.integers().between(1, 1000).injectDuplicates(0.5).list().ofSize(5)).asGeneric();
+
+			List<List<Object>> sequentialSamples = generatedSamples(arbitrary, 1);
+			List<List<Object>> parallelSamples = generatedSamples(arbitrary, 4);
+
+			assertThat(parallelSamples).hasSize(50);
+			assertThat(parallelSamples).isEqualTo(sequentialSamples);
+		}
+
+		@Example
+		void concurrentTriesDoNotShareTryStores() {
+			TestDescriptor scope = TestDescriptorBuilder.forClass(GenericPropertyTests.class).build();
+			try {
+				CurrentTestDescriptor.runWithDescriptor(scope, () -> {
+					Store<AtomicInteger> tryStore = Store.create("tryCounter", Lifespan.TRY, AtomicInteger::new);
+					TryLifecycleExecutor tryExecutor = finishingTries(scope, (context, params) -> {
+						int first = tryStore.get().incrementAndGet();
+						sleep(1);
+						int second = tryStore.get().incrementAndGet();
+						return first == 1 && second == 2 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+					});
+
+					PropertyCheckResult result = checkInParallel(tryExecutor, 4);
+
+					assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+					assertThat(result.countTries()).isEqualTo(50);
+				});
+			} finally {
+				StoreRepository.getCurrent().finishScope(scope);
+			}
+		}
+
+		@Example
+		void statisticsAreCollectedFromConcurrentTries() {
+			TestDescriptor scope = TestDescriptorBuilder.forClass(GenericPropertyTests.class).build();
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl(StatisticsFacadeImpl.DEFAULT_LABEL);
+			try {
+				CurrentTestDescriptor.runWithDescriptor(scope, () -> {
+					Store.create(StatisticsCollectorImpl.COLLECTORS_ID, Lifespan.PROPERTY, () -> {
+						Map<String, StatisticsCollector> collectors = new HashMap<>();
+						collectors.put(StatisticsFacadeImpl.DEFAULT_LABEL, collector);
+						return collectors;
+					});
+					TryLifecycleExecutor tryExecutor = finishingTries(scope, (context, params) -> {
+						Statistics.collect((int) params.get(0) % 2 == 0);
+						return TryExecutionResult.satisfied();
+					});
+
+					checkInParallel(tryExecutor, 8);
+				});
+			} finally {
+				StoreRepository.getCurrent().finishScope(scope);
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(50);
+		}
+
+		@Example
+		void filtersUsedInConcurrentTriesAreReported() {
+			Reporter reporter = Mockito.mock(Reporter.class);
+			RandomGenerator<Integer> evenNumbers = Arbitraries.integers().between(0, 100).filter(i -> i % 2 == 0).generator(10);
+			TryLifecycleExecutor tryExecutor = (context, params) -> {
+				evenNumbers.next(SourceOfRandomness.current());
+				return TryExecutionResult.satisfied();
+			};
+
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+			PropertyConfiguration configuration = aConfig().withTries(50).withTriesParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, tryExecutor, tryLifecycleContextSupplier);
+			property.check(reporter, new Reporting[]{Reporting.FILTERS});
+
+			Mockito.verify(reporter).publishReports(
+				Mockito.eq("filters"),
+				Mockito.argThat(reports -> reports.size() == 1 && reports.values().iterator().next().toString().startsWith("accepted 50 of "))
+			);
+		}
+
+		@Example
+		void filterStatisticsAreNotCollectedIfNotReported() {
+			List<FilterStatistics> statisticsInTries = Collections.synchronizedList(new ArrayList<>());
+			TryLifecycleExecutor tryExecutor = (context, params) -> {
+				statisticsInTries.add(FilterStatistics.current());
+				return TryExecutionResult.satisfied();
+			};
+
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+			PropertyConfiguration configuration = aConfig().withTries(20).withTriesParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, tryExecutor, tryLifecycleContextSupplier);
+			property.check(Mockito.mock(Reporter.class), new Reporting[0]);
+
+			assertThat(statisticsInTries).hasSize(20).containsOnlyNulls();
+		}
+
+		private List<List<Object>> generatedSamples(Supplier<Arbitrary<Object>> arbitrary, int parallelism) {
+			List<List<Object>> samples = new ArrayList<>();
+			TestDescriptor scope = TestDescriptorBuilder.forClass(GenericPropertyTests.class).build();
+			try {
+				CurrentTestDescriptor.runWithDescriptor(scope, () -> {
+					SourceOfRandomness.create("4711");
+					ParametersGenerator generator = randomizedShrinkablesGenerator(arbitrary.get());
+					ParametersGenerator recordingGenerator = new ParametersGenerator() {
+						@Override
+						public boolean hasNext() {
+							return generator.hasNext();
+						}
+
+						@Override
+						public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+							List<Shrinkable<Object>> shrinkables = generator.next(context);
+							samples.add(shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList()));
+							return shrinkables;
+						}
+
+						@Override
+						public int edgeCasesTotal() {
+							return 0;
+						}
+
+						@Override
+						public int edgeCasesTried() {
+							return 0;
+						}
+					};
+					TryLifecycleExecutor tryExecutor = finishingTries(scope, (context, params) -> TryExecutionResult.satisfied());
+					PropertyConfiguration configuration = aConfig().withSeed("4711").withTries(50).withTriesParallelism(parallelism).build();
+					new GenericProperty("parallel property", configuration, recordingGenerator, tryExecutor, tryLifecycleContextSupplier)
+						.check(TestHelper.reporter(), new Reporting[0]);
+				});
+			} finally {
+				StoreRepository.getCurrent().finishScope(scope);
+			}
+			return samples;
+		}
+
+		private PropertyCheckResult checkInParallel(TryLifecycleExecutor tryExecutor, int parallelism) {
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+			PropertyConfiguration configuration = aConfig().withTries(50).withTriesParallelism(parallelism).build();
+			GenericProperty property =
+				new GenericProperty("parallel property", configuration, shrinkablesGenerator, tryExecutor, tryLifecycleContextSupplier);
+			return property.check(TestHelper.reporter(), new Reporting[0]);
+		}
+
+		// Like the try executor of a real property
+		private TryLifecycleExecutor finishingTries(TestDescriptor scope, TryLifecycleExecutor tryExecutor) {
+			return (context, params) -> {
+				try {
+					return tryExecutor.execute(context, params);
+				} finally {
+					StoreRepository.getCurrent().finishTry(scope);
+				}
+			};
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException ignore) {
+			}
+		}
+	}
+
+	@Group
+	class MaxDuration {
+
+		private final CheckedFunction slowTry = params -> {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException ignore) {
+			}
+			return true;
+		};
+
+		@Example
+		void noFurtherTriesAreStartedWhenMaxDurationIsExceeded() {
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withMaxDuration("50ms").build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, slowTry, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isBetween(1, 999);
+			assertThat(result.countChecks()).isEqualTo(result.countTries());
+		}
+
+		@Example
+		void triesStayUpperLimit() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(20).withMaxDuration("1h").build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(20);
+		}
+
+		@Example
+		void parallelTriesStopWhenMaxDurationIsExceeded() {
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withTriesParallelism(2).withMaxDuration("50ms").build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, slowTry, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isBetween(1, 999);
+		}
+
+		@Example
+		void triesPerSecondAreReported() {
+			Reporter reporter = Mockito.mock(Reporter.class);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withMaxDuration("PT10S").build();
+			GenericProperty property =
+				new GenericProperty("timed property", configuration, shrinkablesGenerator, slowTry, tryLifecycleContextSupplier);
+			property.check(reporter, new Reporting[0]);
+
+			Mockito.verify(reporter).publishReports(
+				Mockito.eq("time budget"),
+				Mockito.argThat(reports -> reports.get("tries").equals(10) && reports.containsKey("tries-per-second"))
+			);
+		}
+	}
+
+	@Group
+	class FilterReporting {
+
+		@Example
+		void filtersAreReportedWithReportingFilters() {
+			Reporter reporter = Mockito.mock(Reporter.class);
+			Arbitrary<Object> evenNumbers = Arbitraries.integers().between(0, 100).filter(i -> i % 2 == 0).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(evenNumbers);
+
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property =
+				new GenericProperty("filtered property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			property.check(reporter, new Reporting[]{Reporting.FILTERS});
+
+			Mockito.verify(reporter).publishReports(
+				Mockito.eq("filters"),
+				Mockito.argThat(reports -> reports.size() == 1 && reports.values().iterator().next().toString().startsWith("accepted 10 of "))
+			);
+		}
+
+		@Example
+		void filtersAreNotReportedWithoutReportingFilters() {
+			Reporter reporter = Mockito.mock(Reporter.class);
+			Arbitrary<Object> evenNumbers = Arbitraries.integers().between(0, 100).filter(i -> i % 2 == 0).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(evenNumbers);
+
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property =
+				new GenericProperty("filtered property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			property.check(reporter, new Reporting[0]);
+
+			Mockito.verify(reporter, Mockito.never()).publishReports(Mockito.eq("filters"), Mockito.any());
+		}
+	}
+
 	@Group
 	class NoParameter {
 		@Example
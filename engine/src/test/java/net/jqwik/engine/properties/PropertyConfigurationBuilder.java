@@ -24,6 +24,11 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private String maxDuration = null;
+	private int triesParallelism = TestHelper.DEFAULT_TRIES_PARALLELISM;
+	private List<List<Object>> regressionSamples = Collections.emptyList();
+	private long exhaustiveSliceSize = TestHelper.DEFAULT_EXHAUSTIVE_SLICE_SIZE;
+	private long exhaustiveStartPosition = 0;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -75,6 +80,31 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withMaxDuration(String maxDuration) {
+		this.maxDuration = maxDuration;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withTriesParallelism(int triesParallelism) {
+		this.triesParallelism = triesParallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withRegressionSamples(List<List<Object>> regressionSamples) {
+		this.regressionSamples = regressionSamples;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withExhaustiveSliceSize(long exhaustiveSliceSize) {
+		this.exhaustiveSliceSize = exhaustiveSliceSize;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withExhaustiveStartPosition(long exhaustiveStartPosition) {
+		this.exhaustiveStartPosition = exhaustiveStartPosition;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -85,16 +115,18 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			maxDuration
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
-			TestHelper.propertyAttributesDefaults(),
+			TestHelper.propertyAttributesDefaults(triesParallelism, exhaustiveSliceSize),
 			previousSeed, falsifiedSample, seed,
 			tries,
 			generationMode
-		);
+		).withRegressionSamples(regressionSamples)
+			.withExhaustiveStartPosition(exhaustiveStartPosition);
 
 	}
 
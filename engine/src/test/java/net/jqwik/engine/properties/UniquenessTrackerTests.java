@@ -0,0 +1,96 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessTrackerTests {
+
+	private final List<FeatureExtractor<Integer>> modulo10 = Collections.singletonList(i -> i % 10);
+
+	@Example
+	void addIfUnique() {
+		UniquenessTracker<Integer> tracker = new UniquenessTracker<>(modulo10);
+
+		assertThat(tracker.addIfUnique(1)).isTrue();
+		assertThat(tracker.addIfUnique(2)).isTrue();
+		assertThat(tracker.addIfUnique(11)).isFalse();
+		assertThat(tracker.isUnique(12)).isFalse();
+		assertThat(tracker.isUnique(3)).isTrue();
+		assertThat(tracker.allUnique()).isTrue();
+	}
+
+	@Example
+	void allExtractorsMustBeUnique() {
+		List<FeatureExtractor<Integer>> extractors = asList(i -> i % 10, i -> i % 7);
+		UniquenessTracker<Integer> tracker = UniquenessTracker.of(extractors, asList(1, 2));
+
+		assertThat(tracker.isUnique(3)).isTrue();
+		assertThat(tracker.isUnique(9)).isFalse();
+		assertThat(tracker.isUnique(11)).isFalse();
+	}
+
+	@Example
+	void nullFeaturesAreTracked() {
+		List<FeatureExtractor<String>> lengths = Collections.singletonList(String::length);
+		UniquenessTracker<String> tracker = new UniquenessTracker<>(lengths);
+
+		assertThat(tracker.addIfUnique(null)).isTrue();
+		assertThat(tracker.addIfUnique(null)).isFalse();
+		assertThat(tracker.addIfUnique("a")).isTrue();
+	}
+
+	@Example
+	void replacingOneValue() {
+		UniquenessTracker<Integer> tracker = UniquenessTracker.of(modulo10, asList(1, 2, 3));
+
+		assertThat(tracker.isUniqueReplacing(3, 13)).isTrue();
+		assertThat(tracker.isUniqueReplacing(3, 4)).isTrue();
+		assertThat(tracker.isUniqueReplacing(3, 12)).isFalse();
+		assertThat(tracker.isUniqueReplacing(3, 21)).isFalse();
+	}
+
+	@Example
+	void replacingTwoValues() {
+		UniquenessTracker<Integer> tracker = UniquenessTracker.of(modulo10, asList(1, 2, 3));
+
+		assertThat(tracker.isUniqueReplacing(2, 3, 3, 2)).isTrue();
+		assertThat(tracker.isUniqueReplacing(2, 5, 3, 6)).isTrue();
+		assertThat(tracker.isUniqueReplacing(2, 5, 3, 15)).isFalse();
+		assertThat(tracker.isUniqueReplacing(2, 5, 3, 11)).isFalse();
+	}
+
+	@Example
+	void trackedDuplicates() {
+		UniquenessTracker<Integer> tracker = UniquenessTracker.of(modulo10, asList(1, 11, 2));
+
+		assertThat(tracker.allUnique()).isFalse();
+		assertThat(tracker.isUniqueReplacing(11, 3)).isTrue();
+		assertThatThrownBy(() -> tracker.isUniqueReplacing(11, 3, 2, 4)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Property
+	void sameResultAsUniquenessChecker(
+		@ForAll("uniqueModulo10") List<Integer> values,
+		@ForAll("smallInts") List<Integer> candidates
+	) {
+		UniquenessTracker<Integer> tracker = UniquenessTracker.of(modulo10, values);
+		for (Integer candidate : candidates) {
+			assertThat(tracker.isUnique(candidate))
+				.isEqualTo(UniquenessChecker.checkValueUniqueIn(modulo10, candidate, values));
+		}
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> smallInts() {
+		return Arbitraries.integers().between(0, 100).list().ofMaxSize(8);
+	}
+
+	@Provide
+	Arbitrary<List<Integer>> uniqueModulo10() {
+		return Arbitraries.integers().between(0, 100).list().ofMaxSize(8).uniqueElements(i -> i % 10);
+	}
+}
@@ -111,6 +111,18 @@ class DefaultTypeArbitraryTests {
 			);
 		}
 
+		@Example
+		void useFactoryMethodWithVarargs() throws NoSuchMethodException {
+			TypeArbitrary<String> typeArbitrary =
+				new DefaultTypeArbitrary<>(String.class)
+					.use(Samples.class.getDeclaredMethod("joinedStrings", String[].class));
+
+			assertAllGenerated(
+				typeArbitrary.generator(1000, true),
+				aString -> aString.startsWith("joined:")
+			);
+		}
+
 		@SuppressWarnings("unchecked")
 		@Example
 		void reusingCreatorsIsIgnored() throws NoSuchMethodException {
@@ -378,6 +390,10 @@ class DefaultTypeArbitraryTests {
 			return Person.create(42, "a person");
 		}
 
+		private static String joinedStrings(String... parts) {
+			return "joined:" + String.join(",", parts);
+		}
+
 		private static String stringFromNoParams() {
 			return "a string";
 		}
@@ -0,0 +1,158 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.FilterStatistics.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilteredGeneratorTests {
+
+	@Example
+	void nothingIsRecordedOutsideOfStatisticsCollection(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.integers(0, 99), i -> i % 10 == 0);
+
+		generator.next(random);
+
+		assertThat(FilterStatistics.recordFor(generator)).isNull();
+	}
+
+	@Example
+	void attemptsAndAcceptancesAreRecorded(@ForAll Random random) {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.integers(0, 99), i -> i % 10 == 0);
+
+		FilterStatistics statistics = new FilterStatistics();
+		FilterStatistics.collectWhile(statistics, () -> {
+			for (int i = 0; i < 100; i++) {
+				generator.next(random);
+			}
+			return null;
+		});
+
+		assertThat(statistics.records()).hasSize(1);
+		FilterRecord record = statistics.records().get(0);
+		assertThat(record.accepted()).isEqualTo(100);
+		assertThat(record.attempts()).isGreaterThanOrEqualTo(100);
+		assertThat(record.minAccepted()).isGreaterThanOrEqualTo(0);
+		assertThat(record.maxAccepted()).isLessThanOrEqualTo(90);
+		assertThat(record.isNarrowed()).isFalse();
+		assertThat(statistics.report()).containsOnlyKeys("1: " + generator.toString());
+	}
+
+	@Example
+	void rarelyAcceptingFilterNarrowsSampledRange() {
+		Random random = new Random(42);
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(
+			RandomGenerators.integers(0, 99_999),
+			i -> i >= 50_000 && i < 51_000
+		);
+
+		FilterStatistics statistics = new FilterStatistics(true);
+		List<Integer> values = FilterStatistics.collectWhile(statistics, () -> {
+			List<Integer> generated = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				generated.add(generator.next(random).value());
+			}
+			return generated;
+		});
+
+		assertThat(values).allMatch(i -> i >= 50_000 && i < 51_000);
+		FilterRecord record = statistics.records().get(0);
+		assertThat(record.isNarrowed()).isTrue();
+		assertThat(record.summary()).contains("sampling narrowed to");
+		// Without narrowing about 50000 attempts would be needed
+		assertThat(record.attempts()).isLessThan(10_000);
+	}
+
+	@Example
+	void widelySpreadAcceptedValuesDoNotNarrowSampledRange() {
+		Random random = new Random(42);
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(
+			RandomGenerators.integers(0, 99_999),
+			i -> i % 50 == 0
+		);
+
+		FilterStatistics statistics = new FilterStatistics(true);
+		FilterStatistics.collectWhile(statistics, () -> {
+			for (int i = 0; i < 100; i++) {
+				generator.next(random);
+			}
+			return null;
+		});
+
+		assertThat(statistics.records().get(0).isNarrowed()).isFalse();
+	}
+
+	@Example
+	void withoutNarrowingValuesAreSameAsWithoutStatistics() {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(
+			RandomGenerators.integers(0, 99_999),
+			i -> i >= 50_000 && i < 51_000
+		);
+
+		FilterStatistics statistics = new FilterStatistics();
+		List<Integer> recorded = FilterStatistics.collectWhile(statistics, () -> generate(generator, new Random(42), 100));
+		List<Integer> notRecorded = generate(generator, new Random(42), 100);
+
+		assertThat(recorded).isEqualTo(notRecorded);
+		assertThat(statistics.records().get(0).isNarrowed()).isFalse();
+	}
+
+	@Example
+	void attemptsFromSeveralThreadsAreAllRecorded() throws Exception {
+		FilteredGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.integers(0, 99), i -> i % 2 == 0);
+		FilterStatistics statistics = new FilterStatistics();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<Integer>>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Random random = new Random(i);
+				results.add(executor.submit(() -> FilterStatistics.collectWhile(statistics, () -> generate(generator, random, 1000))));
+			}
+			for (Future<List<Integer>> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		FilterRecord record = statistics.records().get(0);
+		assertThat(record.accepted()).isEqualTo(4000);
+		assertThat(record.acceptedInRange()).isEqualTo(4000);
+		assertThat(record.attempts()).isGreaterThanOrEqualTo(4000);
+	}
+
+	@Example
+	void narrowedValuesStillShrinkWithinFullRange() {
+		Random random = new Random(42);
+		RandomGenerator<Integer> integers = RandomGenerators.integers(0, 99_999);
+
+		Optional<RandomGenerator<Integer>> narrowed = ((NarrowableGenerator<Integer>) integers).narrow(1000, 1100);
+
+		assertThat(narrowed).isPresent();
+		Shrinkable<Integer> shrinkable = narrowed.get().next(random);
+		assertThat(shrinkable.value()).isBetween(1000, 1100);
+		assertThat(shrinkable.shrink()).anyMatch(s -> s.value() < 1000);
+	}
+
+	@Example
+	void narrowingMustCutRangeInHalf() {
+		RandomGenerator<Integer> integers = RandomGenerators.integers(0, 100);
+
+		assertThat(((NarrowableGenerator<Integer>) integers).narrow(0, 50)).isPresent();
+		assertThat(((NarrowableGenerator<Integer>) integers).narrow(0, 51)).isEmpty();
+		assertThat(((NarrowableGenerator<Integer>) integers).narrow(200, 300)).isEmpty();
+	}
+
+	private List<Integer> generate(RandomGenerator<Integer> generator, Random random, int count) {
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			values.add(generator.next(random).value());
+		}
+		return values;
+	}
+}
@@ -7,6 +7,7 @@ import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +32,55 @@ class RandomGeneratorsTests {
 				  .isInstanceOf(JqwikException.class);
 	}
 
+	@Example
+	void largeListsGenerateEachElementOnceInOrder(@ForAll Random random) {
+		int[] counter = {0};
+		RandomGenerator<Integer> countingGenerator = r -> Shrinkable.unshrinkable(counter[0]++);
+		RandomGenerator<List<Integer>> generator =
+			RandomGenerators.list(countingGenerator, 1000, 1000, 1000, null, Collections.emptySet());
+
+		List<Integer> list = generator.next(random).value();
+
+		assertThat(list).hasSize(1000);
+		assertThat(counter[0]).isEqualTo(1000);
+		for (int i = 0; i < list.size(); i++) {
+			assertThat(list.get(i)).isEqualTo(i);
+		}
+	}
+
+	@Example
+	void uniqueListsAreStillGeneratedWithUniqueElements(@ForAll Random random) {
+		RandomGenerator<Integer> integerGenerator = RandomGenerators.integers(1, 20);
+		Set<FeatureExtractor<Integer>> uniqueness = Collections.singleton(FeatureExtractor.identity());
+		RandomGenerator<List<Integer>> generator = RandomGenerators.list(integerGenerator, 0, 10, 1000, null, uniqueness);
+		assertAllGenerated(generator, list -> new HashSet<>(list).size() == list.size());
+	}
+
+	@Example
+	void frequencyGeneratorChoosesValueWhoseRangeContainsRandomIndex() {
+		FrequencyGenerator<String> generator = new FrequencyGenerator<>(Arrays.asList(
+			Tuple.of(2, "a"),
+			Tuple.of(0, "never"),
+			Tuple.of(3, "b"),
+			Tuple.of(1, "c")
+		));
+
+		String[] expectedChoices = {"a", "a", "b", "b", "b", "c"};
+		for (int index = 0; index < expectedChoices.length; index++) {
+			int fixedIndex = index;
+			Random random = new Random() {
+				@Override
+				public int nextInt(int bound) {
+					assertThat(bound).isEqualTo(6);
+					return fixedIndex;
+				}
+			};
+			Shrinkable<String> choice = generator.next(random);
+			assertThat(choice.value()).isEqualTo(expectedChoices[index]);
+			assertThat(choice.distance()).isEqualTo(ShrinkingDistance.of("abc".indexOf(expectedChoices[index])));
+		}
+	}
+
 	@Group
 	class IntegralGeneration {
 
@@ -143,6 +193,39 @@ class RandomGeneratorsTests {
 			);
 		}
 
+		@Example
+		void narrowRangeOutsideLongRange(@ForAll Random random) {
+			BigInteger min = new BigInteger("1000000000000000000000000000000");
+			BigInteger max = min.add(valueOf(3));
+			BigUniformNumericGenerator generator = new BigUniformNumericGenerator(min, max);
+
+			Set<BigInteger> generated = new HashSet<>();
+			for (int i = 0; i < 1000; i++) {
+				generated.add(generator.next(random));
+			}
+			assertThat(generated).containsExactlyInAnyOrder(min, min.add(ONE), min.add(valueOf(2)), max);
+		}
+
+		@Example
+		void rangesAtLimbBorders(@ForAll Random random) {
+			List<BigInteger> ranges = Arrays.asList(
+				ONE.shiftLeft(62).subtract(ONE),
+				ONE.shiftLeft(62),
+				ONE.shiftLeft(63).subtract(ONE),
+				ONE.shiftLeft(64),
+				ONE.shiftLeft(70).add(valueOf(12345)),
+				ONE.shiftLeft(200).subtract(ONE)
+			);
+			for (BigInteger range : ranges) {
+				BigInteger min = range.negate().shiftRight(1);
+				BigInteger max = min.add(range);
+				BigUniformNumericGenerator generator = new BigUniformNumericGenerator(min, max);
+				for (int i = 0; i < 1000; i++) {
+					assertThat(generator.next(random)).isBetween(min, max);
+				}
+			}
+		}
+
 		@Example
 		void minGreaterThanMaxFails() {
 			assertThatThrownBy(() -> {
@@ -160,6 +243,80 @@ class RandomGeneratorsTests {
 
 	}
 
+	@Group
+	class LongBackedGeneration {
+
+		@Example
+		void valuesWithinLongRangeAreLongBacked(@ForAll Random random) {
+			BigInteger min = valueOf(-100_000_000_000L);
+			BigInteger max = valueOf(100_000_000_000L);
+			RandomGenerator<Long> generator = RandomGenerators.integralNumbers(
+				min,
+				max,
+				BigInteger.ZERO,
+				RandomDistribution.biased(),
+				value -> value,
+				BigInteger::longValueExact
+			);
+
+			assertThat(generator.next(random)).isInstanceOf(LongBackedShrinkable.class);
+			assertAllGenerated(generator, value -> value >= min.longValue() && value <= max.longValue());
+		}
+
+		@Example
+		void moreThanHalfOfLongRange() {
+			long min = Long.MIN_VALUE;
+			long max = Long.MAX_VALUE - 1;
+			RandomGenerator<Long> generator = RandomGenerators.integralNumbers(
+				valueOf(min),
+				valueOf(max),
+				BigInteger.ZERO,
+				RandomDistribution.uniform(),
+				value -> value,
+				BigInteger::longValueExact
+			);
+
+			assertAllGenerated(generator, value -> value >= min && value <= max);
+			assertAtLeastOneGenerated(generator, value -> value < 0);
+			assertAtLeastOneGenerated(generator, value -> value > 0);
+		}
+
+		@Example
+		void outsideLongRangeIsNotLongBacked(@ForAll Random random) {
+			BigInteger min = new BigInteger("-10000000000000000000");
+			BigInteger max = new BigInteger("10000000000000000000");
+			RandomGenerator<BigInteger> generator = RandomGenerators.integralNumbers(
+				min,
+				max,
+				BigInteger.ZERO,
+				RandomDistribution.uniform(),
+				BigInteger::valueOf,
+				value -> value
+			);
+
+			assertThat(generator.next(random)).isNotInstanceOf(LongBackedShrinkable.class);
+			assertAllWithinRange(generator, min, max);
+		}
+
+		@Example
+		void doublesAreSameAsBigDecimalDoubleValues(@ForAll long seed) {
+			Range<BigDecimal> range = Range.of(new BigDecimal("-1000000.0"), new BigDecimal("1000000.0"));
+			int scale = 3;
+			BigDecimal shrinkingTarget = RandomDecimalGenerators.defaultShrinkingTarget(range, scale);
+			RandomGenerator<Double> doubles =
+				RandomDecimalGenerators.doubles(1000, range, scale, RandomDistribution.biased(), shrinkingTarget);
+			RandomGenerator<BigDecimal> bigDecimals =
+				RandomDecimalGenerators.bigDecimals(1000, range, scale, RandomDistribution.biased(), shrinkingTarget);
+
+			Random doublesRandom = new Random(seed);
+			Random bigDecimalsRandom = new Random(seed);
+			for (int i = 0; i < 100; i++) {
+				double value = doubles.next(doublesRandom).value();
+				assertThat(value).isEqualTo(bigDecimals.next(bigDecimalsRandom).value().doubleValue());
+			}
+		}
+	}
+
 	@Group
 	class BigDecimalGeneration {
 
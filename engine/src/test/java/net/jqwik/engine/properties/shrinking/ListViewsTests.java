@@ -0,0 +1,74 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Label("ListViews")
+class ListViewsTests {
+
+	private final List<String> base = asList("a", "b", "c", "d");
+
+	@Example
+	void replaceOneElement() {
+		List<String> view = ListViews.replace(base, 1, "x");
+		assertThat(view).containsExactly("a", "x", "c", "d");
+		assertThat(base).containsExactly("a", "b", "c", "d");
+	}
+
+	@Example
+	void replaceTwoElements() {
+		List<String> view = ListViews.replace(base, 0, "x", 3, "y");
+		assertThat(view).containsExactly("x", "b", "c", "y");
+	}
+
+	@Example
+	void removeElement() {
+		assertThat(ListViews.remove(base, 0)).containsExactly("b", "c", "d");
+		assertThat(ListViews.remove(base, 2)).containsExactly("a", "b", "d");
+		assertThat(ListViews.remove(base, 3)).containsExactly("a", "b", "c");
+	}
+
+	@Example
+	void range() {
+		assertThat(ListViews.range(base, 1, 3)).containsExactly("b", "c");
+		assertThat(ListViews.range(base, 2, 2)).isEmpty();
+		assertThat(ListViews.range(base, 0, 4)).isEqualTo(base);
+	}
+
+	@Example
+	void viewsAreEqualToListsWithSameElements() {
+		List<String> view = ListViews.replace(base, 1, "x");
+		assertThat(view).isEqualTo(asList("a", "x", "c", "d"));
+		assertThat(view.hashCode()).isEqualTo(asList("a", "x", "c", "d").hashCode());
+	}
+
+	@Example
+	void viewsAreUnmodifiable() {
+		List<String> view = ListViews.remove(base, 1);
+		assertThatThrownBy(() -> view.add("x")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> view.set(0, "x")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Example
+	void invalidIndicesAreRejected() {
+		assertThatThrownBy(() -> ListViews.replace(base, 4, "x")).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> ListViews.remove(base, -1)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> ListViews.range(base, 3, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+		assertThatThrownBy(() -> ListViews.remove(base, 1).get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Example
+	void flattenCopiesViewsOnly() {
+		assertThat(ListViews.flatten(base)).isSameAs(base);
+
+		List<String> view = ListViews.remove(base, 0);
+		List<String> flattened = ListViews.flatten(view);
+		assertThat(flattened).isNotSameAs(view);
+		assertThat(flattened).containsExactly("b", "c", "d");
+		assertThat(ListViews.flatten(flattened)).isSameAs(flattened);
+	}
+}
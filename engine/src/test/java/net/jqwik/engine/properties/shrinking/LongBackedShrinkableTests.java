@@ -0,0 +1,81 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Label("LongBackedShrinkable")
+class LongBackedShrinkableTests {
+
+	@Example
+	void valueIsBoxedFromPrimitive() {
+		Shrinkable<Integer> shrinkable = createShrinkableInteger(25, Range.of(-100L, 100L), 0L);
+		assertThat(shrinkable.value()).isEqualTo(25);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(createShrinkableInteger(25, Range.of(-100L, 100L), 0L).distance())
+			.isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableInteger(-25, Range.of(-100L, 100L), 100L).distance())
+			.isEqualTo(ShrinkingDistance.of(125));
+	}
+
+	@Example
+	void shrinkingDistanceIsCappedAtLongMaxValue() {
+		Range<BigInteger> fullRange = Range.of(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE));
+		Shrinkable<Long> farBelow = new LongBackedShrinkable<>(Long.MIN_VALUE, fullRange, BigInteger.ZERO, value -> value);
+		Shrinkable<Long> farAbove = new LongBackedShrinkable<>(Long.MAX_VALUE, fullRange, BigInteger.valueOf(-10), value -> value);
+
+		assertThat(farBelow.distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(farAbove.distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Example
+	void shrinkCandidatesAreTheSameAsForBigInteger() {
+		Range<Long> range = Range.of(-1000L, 1000L);
+		Shrinkable<Integer> shrinkable = createShrinkableInteger(-500, range, 0L);
+		Shrinkable<BigInteger> bigIntegerShrinkable =
+			new ShrinkableBigInteger(BigInteger.valueOf(-500), range.map(BigInteger::valueOf), BigInteger.ZERO);
+
+		List<Integer> candidates = shrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList());
+		List<Integer> bigIntegerCandidates = bigIntegerShrinkable.shrink()
+																 .map(s -> s.value().intValueExact())
+																 .collect(Collectors.toList());
+		assertThat(candidates).isEqualTo(bigIntegerCandidates);
+	}
+
+	@Example
+	void shrinkingKeepsPrimitiveBacking() {
+		Shrinkable<Integer> shrinkable = createShrinkableInteger(100000, Range.of(5L, 500000L), 5L);
+		assertThat(shrinkable.shrink()).allMatch(candidate -> candidate instanceof LongBackedShrinkable);
+
+		TestingFalsifier<Integer> falsifier = anInt -> anInt <= 1000;
+		Integer shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(1001);
+	}
+
+	@Example
+	void growByDifferenceOfOtherLongBackedShrinkables() {
+		Range<Long> range = Range.of(-1000L, 1000L);
+		Shrinkable<Integer> shrinkable = createShrinkableInteger(10, range, 0L);
+		Shrinkable<Integer> before = createShrinkableInteger(50, range, 0L);
+		Shrinkable<Integer> after = createShrinkableInteger(20, range, 0L);
+
+		Optional<Shrinkable<Integer>> grown = shrinkable.grow(before, after);
+		assertThat(grown.map(Shrinkable::value)).hasValue(40);
+	}
+
+	private Shrinkable<Integer> createShrinkableInteger(long number, Range<Long> longRange, long shrinkingTarget) {
+		Range<BigInteger> bigIntegerRange = longRange.map(BigInteger::valueOf);
+		return new LongBackedShrinkable<>(number, bigIntegerRange, BigInteger.valueOf(shrinkingTarget), value -> (int) value);
+	}
+}
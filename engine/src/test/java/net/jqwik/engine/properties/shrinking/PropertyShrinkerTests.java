@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -9,6 +10,8 @@ import org.mockito.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 import net.jqwik.testing.*;
@@ -282,6 +285,75 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class ParallelShrinking {
+
+		@Example
+		void singleParameter() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(100);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 4);
+
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer i) -> i <= 41);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(42));
+			assertThat(sample.falsifyingError()).isNotPresent();
+		}
+
+		@Example
+		void severalParameters() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5, 10);
+
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 3);
+
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer integer1, Integer integer2) -> {
+				if (integer1 == 0) return true;
+				return integer2 <= 1;
+			});
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(1, 2));
+			assertThat(createValues(sample)).containsExactly(1, 2);
+		}
+
+		@Example
+		void candidatesRunInOwnTryScopeWithRandomnessDerivedFromCurrentRandom() {
+			Map<List<Object>, Long> firstRun = randomValuesOfCandidates();
+			Map<List<Object>, Long> secondRun = randomValuesOfCandidates();
+
+			assertThat(firstRun).isNotEmpty();
+			assertThat(secondRun).isEqualTo(firstRun);
+		}
+
+		private Map<List<Object>, Long> randomValuesOfCandidates() {
+			SourceOfRandomness.create("42");
+			// Candidates are all different and shrinking finishes after the first batch
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(10);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL, 10, 4);
+
+			Map<List<Object>, Long> randomValues = new ConcurrentHashMap<>();
+			Falsifier<List<Object>> falsifier = params -> {
+				assertThat(TryScope.current()).isPresent();
+				randomValues.put(params, SourceOfRandomness.current().nextLong());
+				return TryExecutionResult.falsified(null);
+			};
+			shrinker.shrink(falsifier);
+			return randomValues;
+		}
+
+		@Example
+		@SuppressLogging
+		void currentTestDescriptorIsAvailableInBoundedShrinking() {
+			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.ShrinkableUsingCurrentTestDescriptor(20).asGeneric());
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 10, 4);
+
+			ShrunkFalsifiedSample sample = shrinker.shrink(alwaysFalsify());
+
+			assertThat((int) sample.parameters().get(0)).isEqualTo(0);
+		}
+	}
+
 	@Group
 	class FalsifiedSampleReporting {
 
@@ -485,10 +557,20 @@ class PropertyShrinkerTests {
 	}
 
 	private PropertyShrinker createShrinker(FalsifiedSample originalSample, ShrinkingMode shrinkingMode, int boundedShrinkingSeconds) {
+		return createShrinker(originalSample, shrinkingMode, boundedShrinkingSeconds, 1);
+	}
+
+	private PropertyShrinker createShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		int shrinkingParallelism
+	) {
 		return new PropertyShrinker(
 			originalSample,
 			shrinkingMode,
 			boundedShrinkingSeconds,
+			shrinkingParallelism,
 			falsifiedSampleReporter,
 			null
 		);
@@ -208,6 +208,40 @@ class ShrinkableListTests {
 			List<Integer> shrunkValue = shrink(shrinkable, falsifier(List::isEmpty), null);
 			assertThat(shrunkValue).hasSize(1);
 		}
+
+		@Example
+		void veryLongList() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 2000)
+							 .boxed()
+							 .map(Shrinkable::unshrinkable)
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 2000);
+
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier(list -> list.size() < 1000), null);
+			assertThat(shrunkValue).hasSize(1000);
+		}
+
+		@Example
+		void candidatesDoNotStackViews() {
+			Shrinkable<List<Integer>> shrinkable = createShrinkableList(5, 4, 3, 2, 1);
+			for (int i = 0; i < 20; i++) {
+				Optional<Shrinkable<List<Integer>>> next = shrinkable.shrink().skip(2).findFirst();
+				if (!next.isPresent()) {
+					break;
+				}
+				shrinkable = next.get();
+				assertThat(shrinkable.value()).hasSizeLessThanOrEqualTo(5);
+			}
+		}
+
+		@Example
+		void sizeCutsWithEqualElementsAreOnlyTriedOnce() {
+			SizeOfListShrinker<Integer> shrinker = new SizeOfListShrinker<>(1);
+
+			assertThat(shrinker.cuts(asList(7, 7))).containsExactly(asList(7));
+			assertThat(shrinker.cuts(asList(1, 2))).containsExactly(asList(1), asList(2));
+		}
 	}
 
 	@Group
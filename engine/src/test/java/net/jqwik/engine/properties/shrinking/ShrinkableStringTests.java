@@ -24,6 +24,23 @@ public class ShrinkableStringTests {
 		assertThat(shrinkable.value()).isEqualTo("abcd");
 	}
 
+	@Example
+	void valuesOfShrinkingCandidatesMatchTheirCharacters() {
+		Shrinkable<String> shrinkable = createShrinkableString("bcd", 2);
+		List<Shrinkable<String>> candidates = shrinkable.shrink().collect(Collectors.toList());
+
+		assertThat(candidates).isNotEmpty();
+		assertThat(candidates).allSatisfy(candidate -> {
+			String valueFromCharacters =
+				((ShrinkableString) candidate).elements
+					.stream()
+					.map(element -> String.valueOf(element.value()))
+					.collect(Collectors.joining());
+			assertThat(candidate.value()).isEqualTo(valueFromCharacters);
+		});
+		assertThat(candidates).extracting(Shrinkable::value).contains("acd", "bbd", "bcc", "bc");
+	}
+
 	@Group
 	class Shrinking {
 
@@ -0,0 +1,281 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressLogging
+class TestRunDatabaseTests {
+
+	private final Path databasePath;
+
+	TestRunDatabaseTests() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", ".test");
+		Files.delete(databasePath);
+	}
+
+	@AfterProperty
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(databasePath);
+		Files.deleteIfExists(FailingSamplesDatabase.samplesPathFor(databasePath));
+	}
+
+	@Example
+	void recordedRunsAreAvailableInNextRun() {
+		UniqueId failedId = UniqueId.root("test", "failed");
+		UniqueId successfulId = UniqueId.root("test", "successful");
+
+		record(
+			new TestRun(failedId, Status.FAILED, "42", Arrays.asList(1, "two")),
+			new TestRun(successfulId, Status.SUCCESSFUL, "4711", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun failedRun = previousRun.byUniqueId(failedId).get();
+		assertThat(failedRun.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(failedRun.randomSeed()).hasValue("42");
+		assertThat(failedRun.falsifiedSample()).hasValue(Arrays.asList(1, "two"));
+
+		TestRun successfulRun = previousRun.byUniqueId(successfulId).get();
+		assertThat(successfulRun.getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(successfulRun.falsifiedSample()).isEmpty();
+
+		assertThat(previousRun.allNonSuccessfulTests()).containsExactly(failedRun);
+	}
+
+	@Example
+	void exhaustiveCheckpointIsAvailableInNextRun() {
+		UniqueId resumedId = UniqueId.root("test", "resumed");
+		UniqueId completedId = UniqueId.root("test", "completed");
+
+		record(
+			new TestRun(resumedId, Status.SUCCESSFUL, "42", null, 4711L),
+			new TestRun(completedId, Status.SUCCESSFUL, "43", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(resumedId).get().exhaustiveCheckpoint()).hasValue(4711L);
+		assertThat(previousRun.byUniqueId(completedId).get().exhaustiveCheckpoint()).isEmpty();
+	}
+
+	@Example
+	void laterRecordReplacesEarlierRecordWithSameId() {
+		UniqueId id = UniqueId.root("test", "property");
+		UniqueId otherId = UniqueId.root("test", "other");
+
+		record(new TestRun(id, Status.FAILED, "1", null), new TestRun(otherId, Status.FAILED, "2", null));
+		record(new TestRun(id, Status.SUCCESSFUL, "3", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id).get().getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(previousRun.byUniqueId(id).get().randomSeed()).hasValue("3");
+		assertThat(previousRun.byUniqueId(otherId).get().getStatus()).isEqualTo(Status.FAILED);
+	}
+
+	@Example
+	void outdatedRecordsAreCompacted() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		for (int i = 0; i < 10; i++) {
+			record(new TestRun(id, Status.SUCCESSFUL, Integer.toString(i), null));
+		}
+		long sizeAfterManyRuns = Files.size(databasePath);
+
+		Files.delete(databasePath);
+		record(new TestRun(id, Status.SUCCESSFUL, "9", null));
+		long sizeOfSingleRecord = Files.size(databasePath);
+
+		assertThat(sizeAfterManyRuns).isLessThanOrEqualTo(sizeOfSingleRecord * 4);
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id).get().randomSeed()).hasValue("9");
+	}
+
+	@Example
+	void notSerializableSampleIsDropped() {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "42", Collections.singletonList(new Object())));
+
+		TestRun testRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(id).get();
+		assertThat(testRun.randomSeed()).hasValue("42");
+		assertThat(testRun.falsifiedSample()).isEmpty();
+	}
+
+	@Example
+	void truncatedRecordIsIgnored() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		UniqueId otherId = UniqueId.root("test", "other");
+		record(new TestRun(id, Status.FAILED, "1", null), new TestRun(otherId, Status.FAILED, "2", null));
+
+		byte[] content = Files.readAllBytes(databasePath);
+		Files.write(databasePath, Arrays.copyOf(content, content.length - 3));
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(id)).isPresent();
+		assertThat(database.previousRun().byUniqueId(otherId)).isEmpty();
+
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(otherId, Status.SUCCESSFUL, "3", null));
+		}
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id)).isPresent();
+		assertThat(previousRun.byUniqueId(otherId).get().randomSeed()).hasValue("3");
+	}
+
+	@Example
+	void recordLongerThanFileIsTreatedAsTruncated() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "1", null));
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.APPEND))) {
+			out.writeInt(Integer.MAX_VALUE);
+			out.writeInt(42);
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(id)).isPresent();
+	}
+
+	@Example
+	void negativeRecordLengthMakesDatabaseUnreadable() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "1", null));
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.APPEND))) {
+			out.writeInt(-5);
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void invalidSampleLengthMakesDatabaseUnreadable() throws IOException {
+		ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(recordBytes)) {
+			out.writeUTF(UniqueId.root("test", "property").toString());
+			out.writeByte(Status.FAILED.ordinal());
+			out.writeBoolean(false);
+			out.writeInt(Integer.MAX_VALUE);
+			out.writeBoolean(false);
+		}
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath))) {
+			TestRunFormat.writeHeader(out);
+			TestRunFormat.writeRecord(out, recordBytes.toByteArray());
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void databaseInUnknownFormatIsReplaced() throws IOException {
+		Files.write(databasePath, new byte[]{(byte) 0xAC, (byte) 0xED, 0, 5, 1, 2, 3});
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		UniqueId id = UniqueId.root("test", "property");
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(id, Status.FAILED, "1", null));
+		}
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id)).isPresent();
+	}
+
+	@Example
+	void failingSamplesAreKeptAcrossSeveralFailures() {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "1", Arrays.asList(1, "a")));
+		record(new TestRun(id, Status.FAILED, "2", Arrays.asList(2, "b")));
+		record(new TestRun(id, Status.FAILED, "3", Arrays.asList(1, "a")));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.failingSamples(id)).containsExactly(
+			Arrays.asList(2, "b"),
+			Arrays.asList(1, "a")
+		);
+	}
+
+	@Example
+	void failingSamplesAreRemovedAfterSuccess() {
+		UniqueId id = UniqueId.root("test", "property");
+		UniqueId otherId = UniqueId.root("test", "other");
+		record(
+			new TestRun(id, Status.FAILED, "1", Arrays.asList(1, "a")),
+			new TestRun(otherId, Status.FAILED, "2", Arrays.asList(2, "b"))
+		);
+		record(new TestRun(id, Status.SUCCESSFUL, "3", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.failingSamples(id)).isEmpty();
+		assertThat(previousRun.failingSamples(otherId)).containsExactly(Arrays.asList(2, "b"));
+	}
+
+	@Example
+	void onlyMostRecentFailingSamplesAreKept() {
+		UniqueId id = UniqueId.root("test", "property");
+		for (int i = 0; i < FailingSamplesDatabase.MAX_SAMPLES_PER_PROPERTY + 5; i++) {
+			record(new TestRun(id, Status.FAILED, "1", Collections.singletonList(i)));
+		}
+
+		List<List<Object>> failingSamples = new TestRunDatabase(databasePath).previousRun().failingSamples(id);
+		assertThat(failingSamples).hasSize(FailingSamplesDatabase.MAX_SAMPLES_PER_PROPERTY);
+		assertThat(failingSamples).endsWith(Collections.singletonList(FailingSamplesDatabase.MAX_SAMPLES_PER_PROPERTY + 4));
+	}
+
+	@Example
+	void failingSamplesOfPreviousRunDoNotChangeWhileRecording() {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "1", Arrays.asList(1, "a")));
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		try (TestRunRecorder recorder = database.recorder()) {
+			recorder.record(new TestRun(id, Status.SUCCESSFUL, "2", null));
+			assertThat(database.previousRun().failingSamples(id)).containsExactly(Arrays.asList(1, "a"));
+		}
+		assertThat(new TestRunDatabase(databasePath).previousRun().failingSamples(id)).isEmpty();
+	}
+
+	@Example
+	void writingFailingSamplesLeavesNoTemporaryFiles() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		record(new TestRun(id, Status.FAILED, "1", Arrays.asList(1, "a")));
+		record(new TestRun(id, Status.FAILED, "2", Arrays.asList(2, "b")));
+
+		Path samplesPath = FailingSamplesDatabase.samplesPathFor(databasePath);
+		try (DirectoryStream<Path> tempFiles = Files.newDirectoryStream(
+			samplesPath.toAbsolutePath().getParent(),
+			samplesPath.getFileName() + "*.tmp"
+		)) {
+			assertThat(tempFiles).isEmpty();
+		}
+	}
+
+	@Example
+	void invalidFailingSampleLengthMakesSamplesUnreadable() throws IOException {
+		UniqueId id = UniqueId.root("test", "property");
+		Path samplesPath = FailingSamplesDatabase.samplesPathFor(databasePath);
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(samplesPath))) {
+			out.writeInt(FailingSamplesDatabase.MAGIC);
+			out.writeShort(FailingSamplesDatabase.VERSION);
+			out.writeUTF(id.toString());
+			out.writeInt(1);
+			out.writeInt(Integer.MAX_VALUE);
+		}
+
+		assertThat(new TestRunDatabase(databasePath).previousRun().failingSamples(id)).isEmpty();
+	}
+
+	private void record(TestRun... testRuns) {
+		try (TestRunRecorder recorder = new TestRunDatabase(databasePath).recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikDurationSupportTests {
+
+	@Example
+	void numberWithUnit() {
+		assertThat(JqwikDurationSupport.parseDuration("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(JqwikDurationSupport.parseDuration("30s")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parseDuration(" 2 m ")).isEqualTo(Duration.ofMinutes(2));
+		assertThat(JqwikDurationSupport.parseDuration("1h")).isEqualTo(Duration.ofHours(1));
+	}
+
+	@Example
+	void isoFormat() {
+		assertThat(JqwikDurationSupport.parseDuration("PT1M30S")).isEqualTo(Duration.ofSeconds(90));
+	}
+
+	@Example
+	void unparseableDuration() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("30 seconds"))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("30 seconds");
+	}
+
+	@Example
+	void tooLargeNumber() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("99999999999999999999s"))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("99999999999999999999s");
+	}
+
+	@Example
+	void durationOutOfRange() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("9223372036854775807h"))
+			.isInstanceOf(JqwikException.class)
+			.hasMessageContaining("9223372036854775807h");
+	}
+}